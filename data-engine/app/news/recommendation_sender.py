@@ -19,12 +19,18 @@ from sqlalchemy import text
 class NewsRecommendationSender:
     """Java 백엔드로 추천 뉴스 전송 서비스"""
 
+    UNSEEN_BATCH_SIZE = 2000  # /news/unseen 요청당 최대 유저 수 (백엔드 요청 DTO @Size(max = 2000))
+
     def __init__(self, backend_url: str = None):
         if backend_url is None:
             # 환경 변수에서 백엔드 URL 확인, 없으면 기본값 사용
             backend_url = os.getenv("BACKEND_URL", "http://backend:8080")
         self.backend_url = backend_url.rstrip("/")
         self.api_endpoint = f"{self.backend_url}/api/recommendations/slots"
+        self.unseen_endpoint = f"{self.backend_url}/api/recommendations/news/unseen"
+        self.candidates_endpoint = f"{self.backend_url}/api/recommendations/candidates"
+        # 백엔드 내부 API 인증 토큰 (app.internal.token과 같은 값)
+        self.internal_headers = {"X-Internal-Token": os.getenv("INTERNAL_API_TOKEN", "")}
         self.recommendation_service = NewsRecommendationService()
 
     def get_all_users(self) -> List[tuple]:
@@ -61,103 +67,148 @@ class NewsRecommendationSender:
         finally:
             session.close()
 
-    async def send_recommendations_for_user(self, user_id: int, user_email: str, limit: int = 3) -> Dict:
-        """특정 사용자에 대한 뉴스 추천 전송"""
+    def filter_unseen_news_ids(self, candidates_by_user: Dict[int, List[int]]):
+        """백엔드 추천 이력 필터로 유저별 최근 30일간 추천받지 않은 후보만 조회 (유저 여러 명을 요청 1번에, 실패 시 None → DB 조회로 대체)"""
         try:
-            print(f"👤 사용자 {user_id} ({user_email}) 추천 처리 중...")
-
-            # 1. 이미 추천받은 뉴스 ID 조회
-            seen_news_ids = self.get_user_seen_news_ids(user_id, days=30)
+            response = requests.post(
+                self.unseen_endpoint,
+                json={"users": [{"userId": uid, "candidateIds": ids} for uid, ids in candidates_by_user.items()]},
+                headers=self.internal_headers,
+                timeout=30
+            )
+            response.raise_for_status()
+            data = response.json().get("data") or []
+            unseen = {item["userId"]: set(item["unseenIds"]) for item in data}
+            return {uid: unseen.get(uid, set(ids)) for uid, ids in candidates_by_user.items()}
+        except Exception as e:
+            print(f"⚠️ 추천 이력 필터 API 실패, DB 조회로 대체: {e}")
+            return None
 
-            # 2. 더 많은 뉴스를 검색 (중복 제거 위해 여유분 확보)
-            search_limit = 500  # 500개 검색
+    def search_candidates(self, user_id: int, user_vector: List[float], k: int):
+        """백엔드 후보 인덱스(HNSW)로 안 본 뉴스 top-K 검색 (인덱스 미적재/실패 시 None → Qdrant 검색으로 대체)"""
+        try:
+            response = requests.post(
+                self.candidates_endpoint,
+                json={"userId": user_id, "contentType": "NEWS", "vector": user_vector, "k": k},
+                headers=self.internal_headers,
+                timeout=10
+            )
+            if response.status_code == 404:  # 스냅샷 아직 없음
+                return None
+            response.raise_for_status()
+            data = response.json().get("data") or []
+            return [{"news_id": item["contentId"], "similarity_score": item["score"]} for item in data]
+        except Exception as e:
+            print(f"⚠️ 후보 검색 API 실패, Qdrant 검색으로 대체: {e}")
+            return None
 
-            # 3. 뉴스 추천 (이메일로 벡터 조회)
-            all_recommended_news = await self.recommendation_service.recommend_news_by_user_id(
-                user_id=user_email,
+    async def collect_candidates(self, user_id: int, user_email: str, search_limit: int = 500):
+        """사용자 벡터로 후보 뉴스 검색 → (후보 목록, 실패 사유)"""
+        # 사용자 벡터 조회 (이메일), 없으면 기본 사용자 벡터 사용
+        user_vector = await self.recommendation_service.get_user_vector(user_email)
+        if not user_vector:
+            print(f"⚠️ 사용자 {user_email}의 벡터 없음, 기본 사용자 벡터 사용...")
+            try:
+                user_vector = await self.recommendation_service.get_user_vector("dummy-user@picky.com")
+            except Exception as e:
+                print(f"❌ 기본 사용자 벡터 조회 실패: {e}")
+                return None, "default_vector_error"
+            if not user_vector:
+                print(f"❌ 기본 사용자 벡터도 없음")
+                return None, "no_default_recommendations"
+
+        # 뉴스 추천: 백엔드 후보 인덱스 우선, 안 되면 Qdrant 검색
+        candidates = self.search_candidates(user_id, user_vector, search_limit)
+        if candidates is None:
+            candidates = await self.recommendation_service.get_similar_news(
+                user_vector=user_vector,
                 limit=search_limit
             )
 
-            # 4. 해당 이메일로 벡터가 없으면 기본 사용자 벡터 사용
-            if not all_recommended_news:
-                print(f"⚠️ 사용자 {user_email}의 벡터 없음, 기본 사용자 벡터 사용...")
-                try:
-                    all_recommended_news = await self.recommendation_service.recommend_news_by_user_id(
-                        user_id="dummy-user@picky.com",
-                        limit=search_limit
-                    )
-                    if all_recommended_news:
-                        print(f"✅ 기본 사용자 벡터로 {len(all_recommended_news)}개 뉴스 검색")
-                    else:
-                        print(f"❌ 기본 사용자 벡터도 없음")
-                        return {"user_id": user_id, "success": 0, "failed": 0, "reason": "no_default_recommendations"}
-                except Exception as e:
-                    print(f"❌ 기본 사용자 벡터 조회 실패: {e}")
-                    return {"user_id": user_id, "success": 0, "failed": 0, "reason": "default_vector_error"}
+        if not candidates:
+            return None, "no_recommendations"
+        return candidates, None
 
-            if not all_recommended_news:
-                return {"user_id": user_id, "success": 0, "failed": 0, "reason": "no_recommendations"}
+    def send_unseen_recommendations(self, user_id: int, all_recommended_news: List[Dict], unseen_ids: set, limit: int = 3) -> Dict:
+        """중복/낮은 유사도 제외 후 상위 limit개를 백엔드로 전송"""
+        # 중복 뉴스 제외 + 낮은 유사도(0.2 미만) 제외
+        filtered_news = [
+            news for news in all_recommended_news
+            if news['news_id'] in unseen_ids and news['similarity_score'] >= 0.2
+        ]
 
-            # 5. 중복 뉴스 제외 + 낮은 유사도(0.2 미만) 제외
-            filtered_news = [
-                news for news in all_recommended_news
-                if news['news_id'] not in seen_news_ids and news['similarity_score'] >= 0.2
-            ]
+        # 필터링 후 필요한 개수만큼 선택
+        recommended_news = filtered_news[:limit]
 
-            # 6. 필터링 후 필요한 개수만큼 선택
-            recommended_news = filtered_news[:limit]
+        if not recommended_news:
+            print(f"⚠️ 중복 제거 후 추천할 새로운 뉴스 없음")
+            return {"user_id": user_id, "success": 0, "failed": 0, "reason": "no_new_recommendations"}
 
-            if not recommended_news:
-                print(f"⚠️ 중복 제거 후 추천할 새로운 뉴스 없음")
-                return {"user_id": user_id, "success": 0, "failed": 0, "reason": "no_new_recommendations"}
+        print(f"🔍 전체 {len(all_recommended_news)}개 → 중복 제거 후 {len(filtered_news)}개 → 최종 {len(recommended_news)}개 선택")
 
-            print(f"🔍 전체 {len(all_recommended_news)}개 → 중복 제거 후 {len(filtered_news)}개 → 최종 {len(recommended_news)}개 선택")
+        # Java 백엔드로 전송
+        success_count = 0
 
-            # 3. Java 백엔드로 전송
-            success_count = 0
-            base_time = datetime.now()
+        for news in recommended_news:
+            try:
+                # 0.6 이상은 priority 1, 0.2~0.6은 순차적으로 2~10 할당
+                sim = news['similarity_score']
+                if sim >= 0.6:
+                    priority = 1
+                else:
+                    # 0.2 ~ 0.6 범위를 9단계로 나눔 (priority 2~10)
+                    step = 0.4 / 9  # (0.6 - 0.2) / 9
+                    bucket = int((sim - 0.2) / step)  # 0~8
+                    priority = 10 - bucket  # 0 → 10, 8 → 2
+
+                request_data = {
+                    "userId": user_id,
+                    "contentType": "NEWS",
+                    "newsId": news['news_id'],
+                    "priority": priority,
+                    "reason": f"유사도: {news['similarity_score']:.3f}"
+                }
+
+                response = self.send_to_backend(request_data)
+                if response and response.status_code in [200, 201]:
+                    success_count += 1
 
-            for i, news in enumerate(recommended_news):
-                try:
-                    # 0.6 이상은 priority 1, 0.2~0.6은 순차적으로 2~10 할당
-                    sim = news['similarity_score']
-                    if sim >= 0.6:
-                        priority = 1
-                    else:
-                        # 0.2 ~ 0.6 범위를 9단계로 나눔 (priority 2~10)
-                        step = 0.4 / 9  # (0.6 - 0.2) / 9
-                        bucket = int((sim - 0.2) / step)  # 0~8
-                        priority = 10 - bucket  # 0 → 10, 8 → 2
-
-                    request_data = {
-                        "userId": user_id,
-                        "contentType": "NEWS",
-                        "newsId": news['news_id'],
-                        "priority": priority,
-                        "reason": f"유사도: {news['similarity_score']:.3f}"
-                    }
-
-                    response = self.send_to_backend(request_data)
-                    if response and response.status_code in [200, 201]:
-                        success_count += 1
+            except Exception as e:
+                print(f"❌ 뉴스 ID {news['news_id']} 처리 중 오류: {e}")
+
+        print(f"✅ 사용자 {user_id}: {success_count}/{len(recommended_news)} 전송 성공")
+        return {
+            "user_id": user_id,
+            "success": success_count,
+            "failed": len(recommended_news) - success_count,
+            "total": len(recommended_news)
+        }
+
+    def unseen_or_fallback(self, unseen_by_user, user_id: int, candidates: List[Dict]) -> set:
+        """배치 필터 결과에서 유저 몫을 꺼내고, API가 실패했으면 DB 추천 이력으로 대체"""
+        if unseen_by_user is not None:
+            return unseen_by_user[user_id]
+        return {news['news_id'] for news in candidates} - self.get_user_seen_news_ids(user_id, days=30)
 
-                except Exception as e:
-                    print(f"❌ 뉴스 ID {news['news_id']} 처리 중 오류: {e}")
-
-            print(f"✅ 사용자 {user_id}: {success_count}/{len(recommended_news)} 전송 성공")
-            return {
-                "user_id": user_id,
-                "success": success_count,
-                "failed": len(recommended_news) - success_count,
-                "total": len(recommended_news)
-            }
+    async def send_recommendations_for_user(self, user_id: int, user_email: str, limit: int = 3) -> Dict:
+        """특정 사용자에 대한 뉴스 추천 전송"""
+        try:
+            print(f"👤 사용자 {user_id} ({user_email}) 추천 처리 중...")
+
+            candidates, reason = await self.collect_candidates(user_id, user_email)
+            if candidates is None:
+                return {"user_id": user_id, "success": 0, "failed": 0, "reason": reason}
+
+            unseen_by_user = self.filter_unseen_news_ids({user_id: [news['news_id'] for news in candidates]})
+            unseen_ids = self.unseen_or_fallback(unseen_by_user, user_id, candidates)
+            return self.send_unseen_recommendations(user_id, candidates, unseen_ids, limit)
 
         except Exception as e:
             print(f"❌ 사용자 {user_id} 처리 실패: {e}")
             return {"user_id": user_id, "success": 0, "failed": 0, "reason": str(e)}
 
     async def process_all_users(self):
-        """모든 사용자에 대한 뉴스 추천 처리"""
+        """모든 사용자에 대한 뉴스 추천 처리 (추천 이력 필터는 UNSEEN_BATCH_SIZE명씩 한 번에)"""
         print("=" * 60)
         print(f"🚀 자동 뉴스 추천 시작 - {datetime.now().strftime('%Y-%m-%d %H:%M:%S')}")
         print("=" * 60)
@@ -171,17 +222,45 @@ class NewsRecommendationSender:
         total_failed = 0
         processed_users = 0
 
-        for user_id, user_email in users:
-            try:
-                result = await self.send_recommendations_for_user(user_id, user_email, limit=3)
-                total_success += result.get('success', 0)
-                total_failed += result.get('failed', 0)
-                processed_users += 1
-                await asyncio.sleep(0.5)  # 과부하 방지
+        for start in range(0, len(users), self.UNSEEN_BATCH_SIZE):
+            batch = users[start:start + self.UNSEEN_BATCH_SIZE]
 
-            except Exception as e:
-                print(f"❌ 사용자 {user_id} ({user_email}) 처리 중 치명적 오류: {e}")
-                total_failed += 1
+            # 1. 유저별 후보 수집
+            candidates_by_user = {}
+            for user_id, user_email in batch:
+                try:
+                    print(f"👤 사용자 {user_id} ({user_email}) 후보 검색 중...")
+                    candidates, reason = await self.collect_candidates(user_id, user_email)
+                    if candidates is None:
+                        print(f"⚠️ 사용자 {user_id}: 후보 없음 ({reason})")
+                        processed_users += 1
+                        continue
+                    candidates_by_user[user_id] = candidates
+                except Exception as e:
+                    print(f"❌ 사용자 {user_id} ({user_email}) 처리 중 치명적 오류: {e}")
+                    total_failed += 1
+
+            if not candidates_by_user:
+                continue
+
+            # 2. 추천 이력 필터 (배치당 요청 1번)
+            unseen_by_user = self.filter_unseen_news_ids(
+                {uid: [news['news_id'] for news in candidates] for uid, candidates in candidates_by_user.items()}
+            )
+
+            # 3. 유저별 전송
+            for user_id, candidates in candidates_by_user.items():
+                try:
+                    unseen_ids = self.unseen_or_fallback(unseen_by_user, user_id, candidates)
+                    result = self.send_unseen_recommendations(user_id, candidates, unseen_ids, limit=3)
+                    total_success += result.get('success', 0)
+                    total_failed += result.get('failed', 0)
+                    processed_users += 1
+                    await asyncio.sleep(0.5)  # 과부하 방지
+
+                except Exception as e:
+                    print(f"❌ 사용자 {user_id} 처리 중 치명적 오류: {e}")
+                    total_failed += 1
 
         print("\n" + "=" * 60)
         print(f"📊 자동 추천 완료 - {datetime.now().strftime('%Y-%m-%d %H:%M:%S')}")
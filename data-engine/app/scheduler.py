@@ -5,6 +5,7 @@ from .news.crawler import main
 from .news.recommendation_sender import NewsRecommendationSender
 from .quiz.recommendation_sender import QuizRecommendationSender
 from .fact.recommendation_sender import FactRecommendationSender
+from .vectorization.snapshot_exporter import EmbeddingSnapshotExporter
 
 scheduler = BackgroundScheduler()
 
@@ -62,6 +63,22 @@ def run_fact_recommendation_job():
 # FACT 추천: 10분 간격으로 실행 (3분, 13분, 23분, ...)
 scheduler.add_job(run_fact_recommendation_job, "cron", minute="3,13,23,33,43,53", timezone="Asia/Seoul")
 
+# 임베딩 스냅샷 내보내기 (백엔드 후보 인덱스용)
+def run_embedding_snapshot_job():
+    """Qdrant 뉴스/퀴즈 벡터를 백엔드가 읽는 스냅샷 파일로 내보내기"""
+    print(f"📦 임베딩 스냅샷 내보내기 시작 - {datetime.now().strftime('%Y-%m-%d %H:%M:%S')}")
+
+    try:
+        counts = EmbeddingSnapshotExporter().export_all()
+        print(f"✅ 임베딩 스냅샷 내보내기 완료 - {counts}")
+    except Exception as e:
+        print(f"❌ 임베딩 스냅샷 내보내기 실패: {e}")
+        import traceback
+        traceback.print_exc()
+
+# 임베딩 스냅샷: 크롤링(3시간 간격) 30분 뒤
+scheduler.add_job(run_embedding_snapshot_job, "cron", hour="0,3,6,9,12,15,18,21", minute=30, timezone="Asia/Seoul")
+
 
 # 스케줄러 로딩 확인
 print("=" * 50)
@@ -71,6 +88,7 @@ print("✅ 뉴스 크롤링: 매일 0시, 6시, 12시, 18시")
 print("✅ 뉴스 추천: 10분 간격")
 print("✅ 퀴즈 추천: 10분 간격 (5분 오프셋)")
 print("✅ FACT 추천 슬롯 생성: 10분 간격 (3분 오프셋)")
+print("✅ 임베딩 스냅샷 내보내기: 크롤링 30분 뒤")
 print("=" * 50)
 
 # 스케줄러는 lifespan에서 시작됩니다
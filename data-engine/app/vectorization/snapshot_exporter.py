@@ -0,0 +1,81 @@
+"""
+임베딩 스냅샷 내보내기
+Qdrant 뉴스/퀴즈 컬렉션을 백엔드 후보 인덱스(CandidateIndexService)가 읽는 파일로 저장
+
+파일 형식 (big-endian, 백엔드 EmbeddingSnapshotReader와 동일):
+  int magic = 0x504B4556 ("PKEV"), int dim, int count, count x { long id, float[dim] vector }
+"""
+
+import os
+import struct
+from datetime import datetime
+from typing import Optional
+
+from .qdrant_client import QdrantService
+
+MAGIC = 0x504B4556
+SCROLL_BATCH = 1000
+
+# 컬렉션 → (파일명, payload의 콘텐츠 id 키)
+SNAPSHOTS = {
+    "news": ("news.vec", "news_id"),
+    "quiz": ("quiz.vec", "quiz_id"),
+}
+
+
+class EmbeddingSnapshotExporter:
+    """Qdrant 컬렉션 → 임베딩 스냅샷 파일"""
+
+    def __init__(self, snapshot_dir: Optional[str] = None):
+        self.snapshot_dir = snapshot_dir or os.getenv("EMBEDDING_SNAPSHOT_DIR", "/app/data/embeddings")
+        self.qdrant_service = QdrantService()
+
+    def export_all(self) -> dict:
+        os.makedirs(self.snapshot_dir, exist_ok=True)
+        return {collection: self.export(collection, file_name, id_key)
+                for collection, (file_name, id_key) in SNAPSHOTS.items()}
+
+    def export(self, collection_name: str, file_name: str, id_key: str) -> int:
+        """컬렉션 전체를 임시 파일에 쓴 뒤 교체 (백엔드는 수정 시각이 바뀐 완성 파일만 읽는다)"""
+        path = os.path.join(self.snapshot_dir, file_name)
+        tmp_path = path + ".tmp"
+
+        count = 0
+        dim = None
+        with open(tmp_path, "wb") as out:
+            out.write(struct.pack(">iii", MAGIC, 0, 0))  # 헤더는 다 쓴 뒤 채운다
+            offset = None
+            while True:
+                points, offset = self.qdrant_service.client.scroll(
+                    collection_name=collection_name,
+                    limit=SCROLL_BATCH,
+                    offset=offset,
+                    with_payload=[id_key],
+                    with_vectors=True,
+                )
+                for point in points:
+                    content_id = (point.payload or {}).get(id_key)
+                    vector = point.vector
+                    if content_id is None or not vector:
+                        continue
+                    if dim is None:
+                        dim = len(vector)
+                    if len(vector) != dim:
+                        print(f"⚠️ [{collection_name}] 차원이 다른 벡터 건너뜀: id={content_id}")
+                        continue
+                    out.write(struct.pack(f">q{dim}f", int(content_id), *vector))
+                    count += 1
+                if offset is None:
+                    break
+
+            out.seek(0)
+            out.write(struct.pack(">iii", MAGIC, dim or 0, count))
+
+        if count == 0:
+            os.remove(tmp_path)
+            print(f"⚠️ [{collection_name}] 내보낼 벡터 없음, 기존 스냅샷 유지")
+            return 0
+
+        os.replace(tmp_path, path)
+        print(f"✅ [{collection_name}] 스냅샷 {count}개 ({dim}차원) → {path} ({datetime.now().strftime('%H:%M:%S')})")
+        return count
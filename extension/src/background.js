@@ -576,8 +576,9 @@ async function getNextRecommendation(contentType) {
     return { success: false, reason: "unauthenticated" };
   }
   try {
-    // API URL에 contentType을 쿼리 파라미터로 추가
-    const response = await authFetch(`${BACKEND_URL}/api/recommendations/next?type=${contentType}`);
+    // contentType을 생략하면 서버가 켜진 타입 중 가장 먼저 도래한 것을 고른다
+    const query = contentType ? `?type=${contentType}` : "";
+    const response = await authFetch(`${BACKEND_URL}/api/recommendations/next${query}`);
     if (response.status === 204) { // No Content
       return { success: true, data: null }; // 추천할 내용이 없음
     }
@@ -585,7 +586,9 @@ async function getNextRecommendation(contentType) {
       throw new Error(`API Error: ${response.status}`);
     }
     const result = await response.json();
-    return { success: true, data: result.data };
+    // 빈 응답이면 서버가 알려준 다음 폴링까지의 대기 시간(초)
+    const retryAfterSeconds = result.retryAfterSeconds ?? (Number(response.headers.get("Retry-After")) || null);
+    return { success: true, data: result.data, retryAfterSeconds };
   } catch (error) {
     console.error(`Failed to fetch ${contentType} recommendation:`, error);
     return { success: false, error: error.message };
@@ -637,9 +640,8 @@ chrome.alarms.onAlarm.addListener(async (alarm) => {
       return;
     }
 
-    // 3. 랜덤으로 콘텐츠 타입 선택 및 API 호출
-    const randomType = enabledTypes[Math.floor(Math.random() * enabledTypes.length)];
-    const result = await getNextRecommendation(randomType);
+    // 3. API 호출 (타입은 서버의 배달 계획이 가장 먼저 도래한 것으로 고른다)
+    const result = await getNextRecommendation();
 
     // 4. 성공 시 모든 탭의 content script로 추천 내용 브로드캐스트
     if (result.success && result.data) {
@@ -662,11 +664,29 @@ chrome.alarms.onAlarm.addListener(async (alarm) => {
         }
       }
     } else {
-      console.log(`ℹ️ [${randomType}] 추천할 콘텐츠가 없거나 가져오지 못했습니다.`);
+      console.log('ℹ️ 추천할 콘텐츠가 없거나 가져오지 못했습니다.');
+      // 고정 주기 대신 다음 슬롯이 도래할 때까지 쉬었다가 다시 폴링
+      if (result.success && result.retryAfterSeconds) {
+        await deferAlarm(result.retryAfterSeconds);
+      }
     }
   }
 });
 
+// 서버 힌트(Retry-After)에 맞춰 다음 알람 시각을 다시 잡는다 (주기는 그대로 유지, 크롬 알람 최소 30초)
+async function deferAlarm(retryAfterSeconds) {
+  const settings = await chrome.storage.sync.get(['notificationInterval']);
+  const interval = settings.notificationInterval || 30;
+  const delayInMinutes = Math.max(0.5, retryAfterSeconds / 60);
+
+  await chrome.alarms.clear(ALARM_NAME);
+  chrome.alarms.create(ALARM_NAME, {
+    delayInMinutes,
+    periodInMinutes: interval,
+  });
+  console.log(`⏳ 다음 추천까지 ${Math.round(delayInMinutes)}분 대기합니다.`);
+}
+
 // 설정값이 변경될 때 알람을 재설정하는 함수
 async function resetAlarm() {
   const settings = await chrome.storage.sync.get(['notificationInterval', 'isNotificationsOn']);
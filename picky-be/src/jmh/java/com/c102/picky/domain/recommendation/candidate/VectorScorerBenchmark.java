@@ -0,0 +1,53 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 벡터 1개 vs 후보 N개(1536차원, 연속 float[]) 코사인 점수 계산: 스칼라 vs SIMD
+ * <p>
+ * ./gradlew jmh (jdk.incubator.vector 모듈을 붙인 포크에서 실행, 입력은 고정 시드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorScorerBenchmark {
+
+    @Param({"1536"})
+    int dim;
+
+    @Param({"1024", "4096"})
+    int count;
+
+    private float[] query;
+    private float[] matrix;
+    private float[] out;
+
+    private final VectorScorer scalar = VectorScorers.scalar();
+    private final VectorScorer simd = VectorScorers.simd()
+            .orElseThrow(() -> new IllegalStateException("run with --add-modules jdk.incubator.vector"));
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        query = new float[dim];
+        matrix = new float[dim * count];
+        out = new float[count];
+        for (int i = 0; i < query.length; i++) query[i] = (float) random.nextGaussian();
+        for (int i = 0; i < matrix.length; i++) matrix[i] = (float) random.nextGaussian();
+    }
+
+    @Benchmark
+    public float[] scalar() {
+        scalar.cosineAll(query, matrix, dim, count, out);
+        return out;
+    }
+
+    @Benchmark
+    public float[] simd() {
+        simd.cosineAll(query, matrix, dim, count, out);
+        return out;
+    }
+}
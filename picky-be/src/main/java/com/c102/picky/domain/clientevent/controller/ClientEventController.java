@@ -0,0 +1,39 @@
+package com.c102.picky.domain.clientevent.controller;
+
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchRequestDto;
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchResponseDto;
+import com.c102.picky.domain.clientevent.service.ClientEventService;
+import com.c102.picky.global.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class ClientEventController {
+
+    private final ClientEventService clientEventService;
+
+    /**
+     * 클라이언트 이벤트 일괄 동기화 (ack / 퀴즈 정답 / 뉴스 열람)
+     * <p>
+     * 이벤트마다 eventId로 멱등 처리, 결과는 요청 순서대로 이벤트별 outcome
+     * (APPLIED / DUPLICATE는 큐에서 제거, IN_PROGRESS는 재전송, REJECTED는 errorCode 확인)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<ClientEventBatchResponseDto>> syncEvents(
+            HttpServletRequest request,
+            @Valid @RequestBody ClientEventBatchRequestDto dto
+    ) {
+        Long userId = (Long) request.getAttribute("userId");
+        var data = clientEventService.applyBatch(userId, dto);
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "이벤트 동기화 성공", data, request.getRequestURI()));
+    }
+}
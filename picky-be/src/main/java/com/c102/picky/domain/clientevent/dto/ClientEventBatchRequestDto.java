@@ -0,0 +1,22 @@
+package com.c102.picky.domain.clientevent.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientEventBatchRequestDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid ClientEventDto> events;     // 발생 순서대로
+}
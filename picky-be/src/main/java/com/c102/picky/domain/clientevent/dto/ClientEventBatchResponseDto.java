@@ -0,0 +1,33 @@
+package com.c102.picky.domain.clientevent.dto;
+
+import com.c102.picky.domain.clientevent.model.ClientEventOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientEventBatchResponseDto {
+
+    private int total;
+    private int applied;
+    private int duplicated;
+    private int rejected;
+    private List<EventResult> results;  // 요청 events와 같은 순서
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventResult {
+        private int index;
+        private String eventId;
+        private ClientEventOutcome outcome;
+        private String errorCode;       // REJECTED일 때 ErrorCode.code
+    }
+}
@@ -0,0 +1,31 @@
+package com.c102.picky.domain.clientevent.dto;
+
+import com.c102.picky.domain.clientevent.model.ClientEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientEventDto {
+    @NotBlank
+    @Size(max = 64)
+    private String eventId;             // 클라이언트가 만든 멱등 id (재전송 시 동일)
+    @NotNull
+    private ClientEventType type;
+    @NotNull
+    private LocalDateTime occurredAt;   // 클라이언트 기준 발생 시각
+
+    private Long slotId;                // OPENED / DISMISS 필수, QUIZ_ANSWER 선택
+    private Long quizId;                // QUIZ_ANSWER 필수
+    private Boolean userAnswer;         // QUIZ_ANSWER 필수
+    private Long newsId;                // NEWS_VIEW 필수
+}
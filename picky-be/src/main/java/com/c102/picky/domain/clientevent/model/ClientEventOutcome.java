@@ -0,0 +1,8 @@
+package com.c102.picky.domain.clientevent.model;
+
+public enum ClientEventOutcome {
+    APPLIED,        // 반영됨
+    DUPLICATE,      // 같은 eventId를 이미 처리함 (클라이언트는 큐에서 제거)
+    IN_PROGRESS,    // 같은 eventId를 다른 요청이 처리 중 (나중에 재전송)
+    REJECTED        // 반영 불가 (errorCode 참고, 재전송해도 결과 같음)
+}
@@ -0,0 +1,8 @@
+package com.c102.picky.domain.clientevent.model;
+
+public enum ClientEventType {
+    OPENED,         // 추천 팝업 열람 (slotId)
+    DISMISS,        // 추천 팝업 닫기 (slotId)
+    QUIZ_ANSWER,    // 퀴즈 정답 제출 (quizId, userAnswer, slotId 선택)
+    NEWS_VIEW       // 뉴스 열람 기록 (newsId)
+}
@@ -0,0 +1,8 @@
+package com.c102.picky.domain.clientevent.service;
+
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchRequestDto;
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchResponseDto;
+
+public interface ClientEventService {
+    ClientEventBatchResponseDto applyBatch(Long userId, ClientEventBatchRequestDto request);
+}
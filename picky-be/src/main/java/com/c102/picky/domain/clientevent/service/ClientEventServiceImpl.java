@@ -0,0 +1,313 @@
+package com.c102.picky.domain.clientevent.service;
+
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchRequestDto;
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchResponseDto;
+import com.c102.picky.domain.clientevent.dto.ClientEventBatchResponseDto.EventResult;
+import com.c102.picky.domain.clientevent.dto.ClientEventDto;
+import com.c102.picky.domain.clientevent.model.ClientEventOutcome;
+import com.c102.picky.domain.clientevent.model.ClientEventType;
+import com.c102.picky.domain.content.dto.QuizPayloadDto;
+import com.c102.picky.domain.content.service.ContentQueryService;
+import com.c102.picky.domain.content.service.SeenContentService;
+import com.c102.picky.domain.dashboard.quiz.entity.UserQuizStats;
+import com.c102.picky.domain.dashboard.quiz.repository.UserQuizStatsRepository;
+import com.c102.picky.domain.recommendation.ack.AckWriteBehindBuffer;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import com.c102.picky.domain.recommendation.service.SlotStateMachine;
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import com.c102.picky.global.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 클라이언트 이벤트 일괄 동기화 (오프라인 중 쌓인 ack / 퀴즈 정답 / 뉴스 열람을 한 번에)
+ * <p>
+ * 흐름:
+ * 1) 타입별 필수 값 검증, 배치 안에서 같은 eventId는 첫 번째만
+ * 2) eventId 단위 멱등 선점 (Redis 파이프라인 1번) → 이미 처리한 이벤트는 DUPLICATE
+ * 3) 한 트랜잭션에서 테이블별로 묶어 반영
+ *    - 슬롯 ack: ack 버퍼의 일괄 반영 경로 (조건부 UPDATE 배치 + fact_views INSERT IGNORE), 같은 슬롯의 ack는 발생 순서대로
+ *    - 퀴즈 정답: 퀴즈 IN 조회 1번 → quiz_attempts 배치 INSERT, quiz_views INSERT IGNORE, 연속 정답은 순서대로 계산 후 1번 저장
+ *    - 뉴스 열람: 기존 열람 IN 조회 1번 → 없는 것만 다중 행 INSERT
+ * 4) 커밋 후 처리 완료 표시 + 본 콘텐츠 비트맵 반영 (실패 시 선점 해제 → 재전송하면 다시 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientEventServiceImpl implements ClientEventService {
+
+    private static final String SCOPE_PREFIX = "client-event:";
+
+    private static final String INSERT_ATTEMPT_SQL = """
+            INSERT INTO quiz_attempts (quiz_id, user_id, user_answer, is_correct, slot_id, attempted_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, NOW())
+            """;
+
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final AckWriteBehindBuffer ackWriter;
+    private final ContentQueryService contentQueryService;
+    private final SeenContentService seenContentService;
+    private final UserQuizStatsRepository userQuizStatsRepository;
+    private final UserRecommendationSlotRepository slotRepository;
+    private final SlotStateMachine slotStateMachine;
+    private final MeterRegistry meterRegistry;
+
+    // 오프라인 재전송을 고려해 처리 완료 표시를 길게 보관
+    @Value("${app.client-event.dedup-ttl-hours:72}")
+    private long dedupTtlHours;
+
+    @Override
+    public ClientEventBatchResponseDto applyBatch(Long userId, ClientEventBatchRequestDto request) {
+        if (userId == null) throw new ApiException(ErrorCode.UNAUTHORIZED);
+
+        List<ClientEventDto> events = request.getEvents();
+        EventResult[] results = new EventResult[events.size()];
+
+        // 1) 검증 + 배치 내 중복
+        Map<String, Integer> firstIndex = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            ClientEventDto event = events.get(i);
+            if (!isValid(event)) {
+                results[i] = rejected(i, event, ErrorCode.VALIDATION_FAILED);
+            } else if (firstIndex.putIfAbsent(event.getEventId(), i) != null) {
+                results[i] = result(i, event, ClientEventOutcome.DUPLICATE);
+            }
+        }
+
+        // 2) 멱등 선점
+        String scope = SCOPE_PREFIX + userId;
+        Map<String, Boolean> taken = firstIndex.isEmpty() ? Map.of() : idempotencyStore.claimAll(scope, firstIndex.keySet());
+        List<Integer> pending = new ArrayList<>();
+        List<String> claimed = new ArrayList<>();
+        firstIndex.forEach((eventId, index) -> {
+            Boolean done = taken.get(eventId);
+            if (done == null) {
+                pending.add(index);
+                claimed.add(eventId);
+            } else {
+                results[index] = result(index, events.get(index), done ? ClientEventOutcome.DUPLICATE : ClientEventOutcome.IN_PROGRESS);
+            }
+        });
+
+        // 3) 테이블별 반영
+        Set<Long> answeredQuizIds = new LinkedHashSet<>();
+        Set<Long> viewedNewsIds = new LinkedHashSet<>();
+        if (!pending.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    applySlotAcks(userId, events, indicesOf(events, pending, ClientEventType.OPENED, ClientEventType.DISMISS), results);
+                    answeredQuizIds.addAll(applyQuizAnswers(userId, events, indicesOf(events, pending, ClientEventType.QUIZ_ANSWER), results));
+                    viewedNewsIds.addAll(applyNewsViews(userId, events, indicesOf(events, pending, ClientEventType.NEWS_VIEW), results));
+                });
+            } catch (RuntimeException e) {
+                idempotencyStore.releaseAll(scope, claimed);
+                throw e;
+            }
+            idempotencyStore.completeAll(scope, claimed, Duration.ofHours(dedupTtlHours));
+        }
+
+        // 4) 커밋 이후 메모리 상태
+        answeredQuizIds.forEach(quizId -> seenContentService.markSeen(userId, ContentType.QUIZ, quizId));
+        viewedNewsIds.forEach(newsId -> seenContentService.markSeen(userId, ContentType.NEWS, newsId));
+
+        return summarize(events, results);
+    }
+
+    private void applySlotAcks(Long userId, List<ClientEventDto> events, List<Integer> indices, EventResult[] results) {
+        if (indices.isEmpty()) return;
+
+        // writeNow는 슬롯당 마지막 ack만 반영하므로, 같은 슬롯의 ack는 발생 순서대로 차례를 나눠 차례마다 1번씩
+        // → OPENED 후 DISMISS면 OPENED가 반영(SEEN + 팩트 열람 기록)되고 DISMISS는 허용되지 않은 전이로 거절
+        List<List<Integer>> rounds = new ArrayList<>();
+        Map<Long, Integer> acksPerSlot = new HashMap<>();
+        List<Integer> ordered = indices.stream()
+                .sorted(Comparator.comparing(index -> events.get(index).getOccurredAt()))
+                .toList();
+        for (int index : ordered) {
+            int round = acksPerSlot.merge(events.get(index).getSlotId(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) rounds.add(new ArrayList<>());
+            rounds.get(round).add(index);
+        }
+
+        Set<Integer> applied = new HashSet<>();
+        for (List<Integer> round : rounds) {
+            List<AckWriteBehindBuffer.Ack> acks = new ArrayList<>(round.size());
+            for (int index : round) {
+                ClientEventDto event = events.get(index);
+                SlotStatus status = event.getType() == ClientEventType.OPENED ? SlotStatus.SEEN : SlotStatus.DISMISSED;
+                acks.add(new AckWriteBehindBuffer.Ack(userId, event.getSlotId(), status, occurredAt(event)));
+            }
+            Set<Long> appliedSlots = ackWriter.writeNow(acks);
+            for (int index : round) {
+                if (appliedSlots.contains(events.get(index).getSlotId())) applied.add(index);
+            }
+        }
+
+        // 반영 안 된 슬롯만 소유 확인 1번 → 내 슬롯이면 허용되지 않은 전이(이미 열람/닫힘), 아니면 없는 슬롯
+        Set<Long> missed = new HashSet<>();
+        for (int index : indices) {
+            if (!applied.contains(index)) missed.add(events.get(index).getSlotId());
+        }
+        Set<Long> owned = missed.isEmpty() ? Set.of() : new HashSet<>(slotRepository.findOwnedIds(userId, missed));
+
+        for (int index : indices) {
+            ClientEventDto event = events.get(index);
+            if (applied.contains(index)) {
+                results[index] = result(index, event, ClientEventOutcome.APPLIED);
+            } else {
+                results[index] = rejected(index, event,
+                        owned.contains(event.getSlotId()) ? ErrorCode.INVALID_SLOT_TRANSITION : ErrorCode.SLOT_NOT_FOUND);
+            }
+        }
+    }
+
+    private Set<Long> applyQuizAnswers(Long userId, List<ClientEventDto> events, List<Integer> indices, EventResult[] results) {
+        if (indices.isEmpty()) return Set.of();
+
+        Set<Long> quizIds = new LinkedHashSet<>();
+        for (int index : indices) quizIds.add(events.get(index).getQuizId());
+        Map<Long, QuizPayloadDto> quizzes = contentQueryService.getQuizPayloads(quizIds, true, false);
+
+        List<Object[]> attempts = new ArrayList<>(indices.size());
+        List<Object[]> views = new ArrayList<>();
+        Set<Long> answered = new LinkedHashSet<>();
+        List<Long> slotIds = new ArrayList<>();
+        UserQuizStats stats = null;
+
+        for (int index : indices) {
+            ClientEventDto event = events.get(index);
+            QuizPayloadDto quiz = quizzes.get(event.getQuizId());
+            if (quiz == null) {
+                results[index] = rejected(index, event, ErrorCode.QUIZ_NOT_FOUND);
+                continue;
+            }
+
+            boolean correct = quiz.getAnswer() != null && quiz.getAnswer().equals(event.getUserAnswer());
+            Timestamp at = Timestamp.valueOf(occurredAt(event));
+            attempts.add(new Object[]{event.getQuizId(), userId, event.getUserAnswer(), correct, event.getSlotId(), at});
+            // 열람 기록은 퀴즈당 첫 답만 (uq: user_id, quiz_id)
+            if (answered.add(event.getQuizId())) {
+                views.add(new Object[]{userId, event.getQuizId(), event.getUserAnswer(), correct, at});
+            }
+            if (event.getSlotId() != null) slotIds.add(event.getSlotId());
+
+            // 연속 정답은 발생 순서대로 누적
+            if (stats == null) {
+                stats = userQuizStatsRepository.findByUserId(userId)
+                        .orElseGet(() -> UserQuizStats.builder().userId(userId).build());
+            }
+            stats.updateStreak(correct);
+            results[index] = result(index, event, ClientEventOutcome.APPLIED);
+        }
+        if (attempts.isEmpty()) return Set.of();
+
+        jdbcTemplate.batchUpdate(INSERT_ATTEMPT_SQL, attempts);
+        String values = String.join(",", Collections.nCopies(views.size(), "(?,?,?,?,?,NOW())"));
+        jdbcTemplate.update("INSERT IGNORE INTO quiz_views (user_id, quiz_id, user_answer, is_correct, viewed_at, created_at) VALUES " + values,
+                views.stream().flatMap(Arrays::stream).toArray());
+        userQuizStatsRepository.save(stats);
+
+        // 슬롯: 시도 표시 + 풀이한 슬롯은 DELIVERED (단건 정답 API와 동일)
+        slotRepository.markQuizzesAttempted(userId, answered);
+        if (!slotIds.isEmpty()) {
+            slotStateMachine.applyAll(SlotTransition.DELIVER,
+                    slotIds.stream().map(slotId -> new SlotStateMachine.Target(userId, slotId)).toList());
+        }
+        return answered;
+    }
+
+    private Set<Long> applyNewsViews(Long userId, List<ClientEventDto> events, List<Integer> indices, EventResult[] results) {
+        if (indices.isEmpty()) return Set.of();
+
+        // 뉴스당 첫 열람 시각
+        Map<Long, LocalDateTime> firstViews = new LinkedHashMap<>();
+        for (int index : indices) {
+            ClientEventDto event = events.get(index);
+            firstViews.putIfAbsent(event.getNewsId(), occurredAt(event));
+            results[index] = result(index, event, ClientEventOutcome.APPLIED);
+        }
+
+        // 이미 본 뉴스는 uq_news_views_user_news에 걸려 건너뛴다 (조회 후 삽입 경합 없음)
+        List<Object> rows = new ArrayList<>(firstViews.size() * 3);
+        firstViews.forEach((newsId, at) -> {
+            rows.add(userId);
+            rows.add(newsId);
+            rows.add(Timestamp.valueOf(at));
+        });
+        String values = String.join(",", Collections.nCopies(firstViews.size(), "(?,?,?,NOW())"));
+        jdbcTemplate.update("INSERT IGNORE INTO news_views (user_id, news_id, viewed_at, created_at) VALUES " + values, rows.toArray());
+        return firstViews.keySet();
+    }
+
+    private static boolean isValid(ClientEventDto event) {
+        return switch (event.getType()) {
+            case OPENED, DISMISS -> event.getSlotId() != null;
+            case QUIZ_ANSWER -> event.getQuizId() != null && event.getUserAnswer() != null;
+            case NEWS_VIEW -> event.getNewsId() != null;
+        };
+    }
+
+    // 클라이언트 시계가 앞서 있으면 서버 시각으로
+    private static LocalDateTime occurredAt(ClientEventDto event) {
+        LocalDateTime now = LocalDateTime.now();
+        return event.getOccurredAt().isAfter(now) ? now : event.getOccurredAt();
+    }
+
+    private static List<Integer> indicesOf(List<ClientEventDto> events, List<Integer> pending, ClientEventType... types) {
+        Set<ClientEventType> wanted = EnumSet.copyOf(Arrays.asList(types));
+        return pending.stream().filter(index -> wanted.contains(events.get(index).getType())).toList();
+    }
+
+    private ClientEventBatchResponseDto summarize(List<ClientEventDto> events, EventResult[] results) {
+        int applied = 0;
+        int duplicated = 0;
+        int rejected = 0;
+        for (int i = 0; i < results.length; i++) {
+            switch (results[i].getOutcome()) {
+                case APPLIED -> applied++;
+                case DUPLICATE, IN_PROGRESS -> duplicated++;
+                case REJECTED -> rejected++;
+            }
+            meterRegistry.counter("client.events", "type", events.get(i).getType().name(),
+                    "outcome", results[i].getOutcome().name().toLowerCase()).increment();
+        }
+        return ClientEventBatchResponseDto.builder()
+                .total(results.length)
+                .applied(applied)
+                .duplicated(duplicated)
+                .rejected(rejected)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private static EventResult result(int index, ClientEventDto event, ClientEventOutcome outcome) {
+        return EventResult.builder()
+                .index(index)
+                .eventId(event.getEventId())
+                .outcome(outcome)
+                .build();
+    }
+
+    private static EventResult rejected(int index, ClientEventDto event, ErrorCode errorCode) {
+        return EventResult.builder()
+                .index(index)
+                .eventId(event.getEventId())
+                .outcome(ClientEventOutcome.REJECTED)
+                .errorCode(errorCode.getCode())
+                .build();
+    }
+}
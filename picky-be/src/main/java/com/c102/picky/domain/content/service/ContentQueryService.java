@@ -3,6 +3,9 @@ package com.c102.picky.domain.content.service;
 import com.c102.picky.domain.content.dto.NewsPayloadDto;
 import com.c102.picky.domain.content.dto.QuizPayloadDto;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface ContentQueryService {
 
     /**
@@ -17,4 +20,16 @@ public interface ContentQueryService {
      * @return
      */
     QuizPayloadDto getQuizPayload(Long quizId, boolean includeAnswer, boolean includeExplanation);
+
+    /**
+     * 뉴스 페이로드 일괄 조회 (IN 쿼리 1번, 없는 id는 결과에서 빠진다)
+     * @return newsId -> payload
+     */
+    Map<Long, NewsPayloadDto> getNewsPayloads(Collection<Long> newsIds);
+
+    /**
+     * 퀴즈 페이로드 일괄 조회 (IN 쿼리 1번, 없는 id는 결과에서 빠진다)
+     * @return quizId -> payload
+     */
+    Map<Long, QuizPayloadDto> getQuizPayloads(Collection<Long> quizIds, boolean includeAnswer, boolean includeExplanation);
 }
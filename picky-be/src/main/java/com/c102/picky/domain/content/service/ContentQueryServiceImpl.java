@@ -11,6 +11,10 @@ import com.c102.picky.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class ContentQueryServiceImpl implements ContentQueryService {
@@ -28,15 +32,7 @@ public class ContentQueryServiceImpl implements ContentQueryService {
         News n = newsRepository.findWithCategoryById(newsId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NEWS_NOT_FOUND));
 
-        return NewsPayloadDto.builder()
-                .id(n.getId())
-                .title(n.getTitle())
-                .url(n.getUrl())
-                .summary(n.getSummary())
-                .publishedAt(n.getPublishedAt())
-                .categoryId(n.getCategory() != null ? n.getCategory().getId() : null)
-                .categoryName(n.getCategory() != null ? n.getCategory().getName() : null)
-                .build();
+        return toNewsPayload(n);
     }
 
     /**
@@ -52,6 +48,36 @@ public class ContentQueryServiceImpl implements ContentQueryService {
         Quiz q = quizRepository.findById(quizId)
                 .orElseThrow(() -> new ApiException(ErrorCode.QUIZ_NOT_FOUND));
 
+        return toQuizPayload(q, includeAnswer, includeExplanation);
+    }
+
+    @Override
+    public Map<Long, NewsPayloadDto> getNewsPayloads(Collection<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) return Map.of();
+        return newsRepository.findWithCategoryByIdIn(newsIds).stream()
+                .collect(Collectors.toMap(News::getId, this::toNewsPayload));
+    }
+
+    @Override
+    public Map<Long, QuizPayloadDto> getQuizPayloads(Collection<Long> quizIds, boolean includeAnswer, boolean includeExplanation) {
+        if (quizIds == null || quizIds.isEmpty()) return Map.of();
+        return quizRepository.findAllById(quizIds).stream()
+                .collect(Collectors.toMap(Quiz::getId, q -> toQuizPayload(q, includeAnswer, includeExplanation)));
+    }
+
+    private NewsPayloadDto toNewsPayload(News n) {
+        return NewsPayloadDto.builder()
+                .id(n.getId())
+                .title(n.getTitle())
+                .url(n.getUrl())
+                .summary(n.getSummary())
+                .publishedAt(n.getPublishedAt())
+                .categoryId(n.getCategory() != null ? n.getCategory().getId() : null)
+                .categoryName(n.getCategory() != null ? n.getCategory().getName() : null)
+                .build();
+    }
+
+    private QuizPayloadDto toQuizPayload(Quiz q, boolean includeAnswer, boolean includeExplanation) {
         return QuizPayloadDto.builder()
                 .id(q.getId())
                 .title(q.getTitle())
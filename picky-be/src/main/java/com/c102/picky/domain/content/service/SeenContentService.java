@@ -0,0 +1,25 @@
+package com.c102.picky.domain.content.service;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+
+import java.util.Optional;
+
+public interface SeenContentService {
+
+    /**
+     * 유저가 해당 콘텐츠를 이미 봤는지 (FACT: 열람, QUIZ: 풀이, NEWS: 조회)
+     */
+    boolean isSeen(Long userId, ContentType contentType, long contentId);
+
+    /**
+     * 본 콘텐츠로 기록 (DB 기록은 호출 측 책임, 여기서는 메모리 비트맵만 갱신)
+     */
+    void markSeen(Long userId, ContentType contentType, long contentId);
+
+    /**
+     * universe 중 아직 안 본 id를 균등 확률로 1개 뽑는다 (MySQL 조회 없음)
+     * @param universe 후보 id 전체 (예: 팩트 카탈로그)
+     * @return 모두 봤으면 empty
+     */
+    Optional<Long> pickUnseen(Long userId, ContentType contentType, long[] universe);
+}
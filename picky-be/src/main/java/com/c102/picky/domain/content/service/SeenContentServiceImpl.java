@@ -0,0 +1,143 @@
+package com.c102.picky.domain.content.service;
+
+import com.c102.picky.domain.dashboard.news.repository.NewsViewRepository;
+import com.c102.picky.domain.fact.repository.FactViewRepository;
+import com.c102.picky.domain.quiz.repository.QuizAttemptRepository;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.global.util.AfterCommit;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 유저 x 콘텐츠 타입별 '본 콘텐츠' 압축 비트맵 (Roaring)
+ * <p>
+ * - 첫 조회 시 FactView / QuizAttempt / NewsView에서 id만 읽어 적재 (lazy), 이후 isSeen은 메모리에서 O(1)
+ * - 열람/풀이/조회 시 markSeen으로 갱신
+ * - 다른 노드의 갱신은 로컬 비트맵에 안 보이므로 일정 시간(loaded-ttl) 지나면 다시 적재
+ * - 적재 중인 비트맵도 markSeen을 받는다 → DB 조회 시작 전 커밋이 적재 도중 markSeen되어도 유실되지 않음
+ * - 유저 수는 LRU로 제한
+ */
+@Service
+public class SeenContentServiceImpl implements SeenContentService {
+
+    // 거부 샘플링 시도 횟수: 안 본 비율이 높으면 이 안에서 끝나고, 낮으면 안 본 목록을 만들어 뽑는다
+    private static final int MAX_REJECTION_TRIES = 16;
+
+    private final FactViewRepository factViewRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+    private final NewsViewRepository newsViewRepository;
+
+    private final Map<String, SeenBitmap> bitmaps;
+    private final Map<String, SeenBitmap> loading = new ConcurrentHashMap<>();
+
+    @Value("${app.seen-content.loaded-ttl-minutes:30}")
+    private long loadedTtlMinutes;
+
+    public SeenContentServiceImpl(FactViewRepository factViewRepository,
+                                  QuizAttemptRepository quizAttemptRepository,
+                                  NewsViewRepository newsViewRepository,
+                                  @Value("${app.seen-content.max-entries:50000}") int maxEntries) {
+        this.factViewRepository = factViewRepository;
+        this.quizAttemptRepository = quizAttemptRepository;
+        this.newsViewRepository = newsViewRepository;
+        this.bitmaps = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SeenBitmap> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    public boolean isSeen(Long userId, ContentType contentType, long contentId) {
+        SeenBitmap seen = load(userId, contentType);
+        synchronized (seen) {
+            return seen.ids.contains(contentId);
+        }
+    }
+
+    @Override
+    public void markSeen(Long userId, ContentType contentType, long contentId) {
+        // 기록 트랜잭션이 롤백되면 본 것으로 남기지 않도록 커밋 후 반영
+        AfterCommit.run(() -> {
+            String key = key(userId, contentType);
+            // 적재 중인 것 먼저 (load는 bitmaps에 넣은 뒤 loading에서 빼므로 둘 다 놓치는 순간이 없다)
+            add(loading.get(key), contentId);
+            // 아직 적재 전이면 건드리지 않는다 (다음 적재 때 DB에서 읽힘)
+            add(bitmaps.get(key), contentId);
+        });
+    }
+
+    @Override
+    public Optional<Long> pickUnseen(Long userId, ContentType contentType, long[] universe) {
+        if (universe == null || universe.length == 0) return Optional.empty();
+
+        SeenBitmap seen = load(userId, contentType);
+        var rnd = ThreadLocalRandom.current();
+        synchronized (seen) {
+            // 1) 거부 샘플링: 균등하게 뽑아서 안 본 것이면 채택
+            for (int i = 0; i < MAX_REJECTION_TRIES; i++) {
+                long id = universe[rnd.nextInt(universe.length)];
+                if (!seen.ids.contains(id)) return Optional.of(id);
+            }
+
+            // 2) 대부분 본 경우: 안 본 id만 모아서 균등하게 1개
+            long[] unseen = new long[universe.length];
+            int n = 0;
+            for (long id : universe) {
+                if (!seen.ids.contains(id)) unseen[n++] = id;
+            }
+            return n == 0 ? Optional.empty() : Optional.of(unseen[rnd.nextInt(n)]);
+        }
+    }
+
+    private SeenBitmap load(Long userId, ContentType contentType) {
+        String key = key(userId, contentType);
+        SeenBitmap seen = bitmaps.get(key);
+        if (seen != null && !seen.isStale(loadedTtlMinutes)) return seen;
+
+        // DB 조회 전에 등록 → 조회 도중 들어온 markSeen도 새 비트맵에 남는다
+        SeenBitmap loaded = new SeenBitmap();
+        loading.put(key, loaded);
+        try {
+            Set<Long> ids = switch (contentType) {
+                case FACT -> factViewRepository.findFactIdsByUserId(userId);
+                case QUIZ -> quizAttemptRepository.findQuizIdsByUserId(userId);
+                case NEWS -> newsViewRepository.findNewsIdsByUserId(userId);
+            };
+            synchronized (loaded) {
+                ids.forEach(loaded.ids::addLong);
+                loaded.ids.runOptimize();
+            }
+            bitmaps.put(key, loaded);
+        } finally {
+            loading.remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private static void add(SeenBitmap seen, long contentId) {
+        if (seen == null) return;
+        synchronized (seen) {
+            seen.ids.addLong(contentId);
+        }
+    }
+
+    private static String key(Long userId, ContentType contentType) {
+        return userId + ":" + contentType;
+    }
+
+    private static final class SeenBitmap {
+        private final Roaring64NavigableMap ids = new Roaring64NavigableMap();
+        private final long loadedAt = System.currentTimeMillis();
+
+        private boolean isStale(long ttlMinutes) {
+            return System.currentTimeMillis() - loadedAt > ttlMinutes * 60_000L;
+        }
+    }
+}
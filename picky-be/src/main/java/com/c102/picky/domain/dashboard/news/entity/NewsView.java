@@ -10,6 +10,9 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "news_views",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_news_views_user_news", columnNames = {"user_id", "news_id"})
+    },
     indexes = {
         @Index(name = "idx_news_views_user_time", columnList = "user_id, viewed_at"),
         @Index(name = "idx_news_views_news_time", columnList = "news_id, viewed_at")
@@ -1,8 +1,10 @@
 package com.c102.picky.domain.dashboard.news.repository;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import com.c102.picky.domain.dashboard.news.entity.NewsView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,7 +18,15 @@ public interface NewsViewRepository extends JpaRepository<NewsView, Long> {
     @Query("SELECT COUNT(nv) FROM NewsView nv WHERE nv.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
 
-    boolean existsByUserIdAndNewsId(Long userId, Long newsId);
+    // 첫 열람만 기록 (이미 있으면 uq_news_views_user_news에 걸려 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO news_views (user_id, news_id, viewed_at, created_at) VALUES (:userId, :newsId, NOW(), NOW())",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("newsId") Long newsId);
+
+    // 유저가 본 뉴스 id 전체
+    @Query("SELECT DISTINCT nv.newsId FROM NewsView nv WHERE nv.userId = :userId")
+    Set<Long> findNewsIdsByUserId(@Param("userId") Long userId);
 
     // 일별 뉴스 소비량 조회 (현재 주 월요일부터)
     @Query("""
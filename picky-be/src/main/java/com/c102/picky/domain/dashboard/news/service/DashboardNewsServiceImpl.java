@@ -3,8 +3,9 @@ package com.c102.picky.domain.dashboard.news.service;
 import com.c102.picky.domain.dashboard.news.dto.NewsStatsResponseDto;
 import com.c102.picky.domain.dashboard.news.dto.TrendingNewsResponseDto;
 import com.c102.picky.domain.content.service.ContentQueryService;
-import com.c102.picky.domain.dashboard.news.entity.NewsView;
+import com.c102.picky.domain.content.service.SeenContentService;
 import com.c102.picky.domain.dashboard.news.repository.NewsViewRepository;
+import com.c102.picky.domain.recommendation.model.ContentType;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,6 +26,7 @@ public class DashboardNewsServiceImpl implements DashboardNewsService {
 
     private final NewsViewRepository newsViewRepository;
     private final ContentQueryService contentQueryService;
+    private final SeenContentService seenContentService;
 
     @Override
     public NewsStatsResponseDto getNewsStats(Long userId) {
@@ -81,13 +83,8 @@ public class DashboardNewsServiceImpl implements DashboardNewsService {
     @Override
     @Transactional
     public void recordNewsView(Long userId, Long newsId) {
-        if (!newsViewRepository.existsByUserIdAndNewsId(userId, newsId)) {
-            NewsView newsView = NewsView.builder()
-                    .userId(userId)
-                    .newsId(newsId)
-                    .build();
-            newsViewRepository.save(newsView);
-        }
+        newsViewRepository.insertIgnore(userId, newsId);
+        seenContentService.markSeen(userId, ContentType.NEWS, newsId);
     }
 
     @Override
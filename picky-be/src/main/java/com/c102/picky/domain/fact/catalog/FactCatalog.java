@@ -0,0 +1,83 @@
+package com.c102.picky.domain.fact.catalog;
+
+import com.c102.picky.domain.fact.repository.FactRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 팩트 id 카탈로그 (메모리)
+ * <p>
+ * - 팩트 id만 촘촘한 long[]로 보관 (제목/본문/url은 요청 경로에서 읽지 않는다) → 랜덤 픽 O(1), OFFSET 스캔 없음
+ * - FactCsvInitializer(@Order(2)) 적재 직후 @Order(3)로 최초 적재
+ * - 이후 주기적으로 (count, max id)만 확인해서 바뀌었을 때만 다시 적재, 적재 경로에서 refresh() 직접 호출도 가능
+ */
+@Slf4j
+@Component
+@Order(3) // Fact CSV 적재(2) 이후
+@RequiredArgsConstructor
+public class FactCatalog implements ApplicationRunner {
+
+    private final FactRepository factRepository;
+    private final JdbcTemplate jdbc;
+
+    // 교체는 참조 단위로만 (읽는 쪽은 락 없이 스냅샷 사용)
+    private volatile long[] ids = new long[0];
+    private volatile String signature = "";
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    /**
+     * 카탈로그 전체 다시 적재
+     */
+    public void refresh() {
+        long[] loaded = factRepository.findAllIds().stream().mapToLong(Long::longValue).toArray();
+        this.signature = currentSignature();
+        this.ids = loaded;
+        log.info("[FactCatalog] loaded. size={}", loaded.length);
+    }
+
+    /**
+     * 팩트 테이블이 바뀌었으면 다시 적재 (COUNT/MAX는 PK 인덱스만 읽는다)
+     */
+    @Scheduled(fixedDelayString = "${app.fact-catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${app.fact-catalog.refresh-interval-ms:600000}")
+    public void refreshIfChanged() {
+        if (!currentSignature().equals(signature)) refresh();
+    }
+
+    /**
+     * 현재 팩트 id 스냅샷 (수정 금지)
+     */
+    public long[] ids() {
+        return ids;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 전체 팩트에서 균등 랜덤 1개
+     */
+    public Optional<Long> pickAny() {
+        long[] snapshot = ids;
+        if (snapshot.length == 0) return Optional.empty();
+        return Optional.of(snapshot[ThreadLocalRandom.current().nextInt(snapshot.length)]);
+    }
+
+    private String currentSignature() {
+        return jdbc.queryForObject("SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0)) FROM fact", String.class);
+    }
+}
@@ -2,9 +2,17 @@ package com.c102.picky.domain.fact.repository;
 
 import com.c102.picky.domain.fact.entity.FactView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Set;
 
 public interface FactViewRepository extends JpaRepository<FactView, Long> {
 
     boolean existsByUserIdAndFactId(Long userId, Long factId);
 
+    // 유저가 본 팩트 id 전체
+    @Query("select v.factId from FactView v where v.userId = :userId")
+    Set<Long> findFactIdsByUserId(@Param("userId") Long userId);
+
 }
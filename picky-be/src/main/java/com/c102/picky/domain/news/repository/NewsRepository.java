@@ -4,6 +4,8 @@ import com.c102.picky.domain.news.entity.News;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
@@ -11,4 +13,8 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     // 카테고리까지 한번에 로딩(N+1 방지)
     @EntityGraph(attributePaths = "category")
     Optional<News> findWithCategoryById(Long id);
+
+    // 여러 건을 카테고리까지 IN 쿼리 1번으로 로딩
+    @EntityGraph(attributePaths = "category")
+    List<News> findWithCategoryByIdIn(Collection<Long> ids);
 }
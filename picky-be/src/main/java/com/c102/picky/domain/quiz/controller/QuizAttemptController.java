@@ -2,14 +2,16 @@ package com.c102.picky.domain.quiz.controller;
 
 import com.c102.picky.domain.content.dto.QuizPayloadDto;
 import com.c102.picky.domain.content.service.ContentQueryService;
+import com.c102.picky.domain.content.service.SeenContentService;
 import com.c102.picky.domain.dashboard.quiz.service.DashboardQuizService;
 import com.c102.picky.domain.quiz.dto.QuizAnswerResponseDto;
 import com.c102.picky.domain.quiz.dto.QuizAttemptCreateRequestDto;
 import com.c102.picky.domain.quiz.entity.QuizAttempt;
 import com.c102.picky.domain.quiz.repository.QuizAttemptRepository;
-import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
-import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
 import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import com.c102.picky.domain.recommendation.service.SlotStateMachine;
 import com.c102.picky.global.dto.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/quizzes")
 @RequiredArgsConstructor
@@ -26,6 +30,8 @@ public class QuizAttemptController {
     private final QuizAttemptRepository quizAttemptRepository;
     private final DashboardQuizService dashboardQuizService;
     private final UserRecommendationSlotRepository slotRepository;
+    private final SlotStateMachine slotStateMachine;
+    private final SeenContentService seenContentService;
 
     @GetMapping("/{quizId}")
     public ResponseEntity<ApiResponse<QuizPayloadDto>> getQuiz(
@@ -56,16 +62,12 @@ public class QuizAttemptController {
                 .build());
 
         dashboardQuizService.recordQuizView(userId, quizId, dto.getUserAnswer(), isCorrect);
+        seenContentService.markSeen(userId, ContentType.QUIZ, quizId);
+        slotRepository.markQuizzesAttempted(userId, List.of(quizId));
 
-        // 추천 슬롯 상태를 DELIVERED로 업데이트
+        // 추천 슬롯 상태를 DELIVERED로 업데이트 (SCHEDULED일 때만, 조건부 UPDATE 1번)
         if (dto.getSlotId() != null) {
-            slotRepository.findByIdAndUserId(dto.getSlotId(), userId)
-                    .ifPresent(slot -> {
-                        if (slot.getStatus() == SlotStatus.SCHEDULED) {
-                            slot.setStatus(SlotStatus.DELIVERED);
-                            slotRepository.save(slot);
-                        }
-                    });
+            slotStateMachine.apply(userId, dto.getSlotId(), SlotTransition.DELIVER);
         }
 
         var response = QuizAnswerResponseDto.builder()
@@ -16,4 +16,8 @@ public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long>
             """)
     Set<Long> findAttemptedQuizIds(@Param("userId") Long userId,
                                    @Param("quizIds") Collection<Long> quizIds);
+
+    // 유저가 푼 퀴즈 id 전체
+    @Query("select distinct qa.quizId from QuizAttempt qa where qa.userId = :userId")
+    Set<Long> findQuizIdsByUserId(@Param("userId") Long userId);
 }
@@ -2,7 +2,6 @@ package com.c102.picky.domain.quiz.service;
 
 import com.c102.picky.domain.quiz.dto.QuizListItemDto;
 import com.c102.picky.domain.quiz.entity.Quiz;
-import com.c102.picky.domain.quiz.repository.QuizAttemptRepository;
 import com.c102.picky.domain.quiz.repository.QuizRepository;
 import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
 import com.c102.picky.domain.recommendation.model.ContentType;
@@ -33,7 +32,6 @@ public class QuizServiceImpl implements QuizService {
 
     private final UserRecommendationSlotRepository userRecommendationSlotRepository;
     private final QuizRepository quizRepository;
-    private final QuizAttemptRepository quizAttemptRepository;
     private final UserScrapRepository userScrapRepository;
 
     private final RecommendationSlotConsumptionService recommendationSlotConsumptionService;
@@ -67,8 +65,11 @@ public class QuizServiceImpl implements QuizService {
         Set<Long> scrappedIds = quizIds.isEmpty()
                 ? Set.of() : userScrapRepository.findActiveScrappedQuizIds(userId, ContentType.QUIZ, quizIds);
 
-        Set<Long> attemptedIds = quizIds.isEmpty()
-                ? Set.of() : quizAttemptRepository.findAttemptedQuizIds(userId, quizIds);
+        // 시도 여부는 슬롯의 attempted 플래그 (정답 제출 시 갱신) → QuizAttempt 조회 없음
+        Set<Long> attemptedIds = slotPage.getContent().stream()
+                .filter(UserRecommendationSlot::isAttempted)
+                .map(UserRecommendationSlot::getQuizId)
+                .collect(Collectors.toSet());
 
         // 4) 미시도 우선 + 중복 제거 + 5개 채우기
         final int target = s;
@@ -0,0 +1,271 @@
+package com.c102.picky.domain.recommendation.ack;
+
+import com.c102.picky.domain.content.service.SeenContentService;
+import com.c102.picky.domain.recommendation.cache.NewsFeedCache;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.service.SlotStateMachine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 추천 ack(OPENED/DISMISS) write-behind 버퍼
+ * <p>
+ * - ack 요청은 메모리 큐에 넣고 바로 반환 (DB 접근 없음)
+ * - flush-interval-ms마다 또는 flush-size건이 쌓이면 한 번에 반영
+ *   1) SlotStateMachine 조건부 UPDATE 배치 (OPENED → SEEN, DISMISS → DISMISSED, 소유 확인 + 출발 상태 확인 포함)
+ *   2) 반영된 슬롯만 (타입, factId) 조회 1번
+ *   3) fact_views 다중 행 INSERT IGNORE 1번 (uq_user_fact로 중복 무시)
+ * - flush 배치 1개 = 트랜잭션 1개 (상태 전이와 fact_views가 같이 커밋/롤백)
+ * - 같은 슬롯의 ack가 여러 번 오면 마지막 것만 반영
+ * - 실패 시: 일시 장애(연결/락 타임아웃 등)면 그대로 다시 적재, 그 외는 ack 1건씩 다시 써서 문제 ack만 골라
+ *   max-attempts번 실패하면 버린다 (dead-letter 로그 + 카운터) → 독성 ack가 배치를 계속 막지 않음
+ * - 큐가 가득 차면 offer가 false → 호출 측이 동기 경로로 처리
+ * - 정상 종료 시 @PreDestroy에서 남은 ack를 모두 반영
+ * <p>
+ * 반영은 best-effort: 적재 전에 호출 측이 소유만 확인하고, 그 뒤에 슬롯 상태가 바뀌었으면(이미 끝난 슬롯) 조용히 무시된다.
+ * 비정상 종료 시 버퍼에 남은 ack, 다시 적재할 자리가 없거나 dead-letter된 ack는 유실된다 (슬롯은 이전 상태로 남음).
+ */
+@Slf4j
+@Component
+public class AckWriteBehindBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SlotStateMachine slotStateMachine;
+    private final SeenContentService seenContentService;
+    private final NewsFeedCache newsFeedCache;
+
+    private final BlockingQueue<Ack> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ack-write-behind");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Counter flushed;
+    private final Counter rejected;
+    private final Counter deadLettered;
+
+    @Value("${app.recommendation.ack.write-behind.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recommendation.ack.write-behind.flush-size:500}")
+    private int flushSize;
+
+    @Value("${app.recommendation.ack.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    public AckWriteBehindBuffer(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                SlotStateMachine slotStateMachine,
+                                SeenContentService seenContentService,
+                                NewsFeedCache newsFeedCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.recommendation.ack.write-behind.capacity:20000}") int capacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.slotStateMachine = slotStateMachine;
+        this.seenContentService = seenContentService;
+        this.newsFeedCache = newsFeedCache;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushed = meterRegistry.counter("recommendation.ack.flushed");
+        this.rejected = meterRegistry.counter("recommendation.ack.rejected");
+        this.deadLettered = meterRegistry.counter("recommendation.ack.dead_lettered");
+        meterRegistry.gauge("recommendation.ack.buffered", queue, Collection::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ack 적재 (가득 차면 false)
+     */
+    public boolean offer(Long userId, Long slotId, SlotStatus status) {
+        if (!queue.offer(new Ack(userId, slotId, status, LocalDateTime.now()))) {
+            rejected.increment();
+            return false;
+        }
+        if (queue.size() >= flushSize) flusher.execute(this::flush);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendation.ack.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        // 동시에 한 스레드만 (스케줄러 / 크기 트리거가 겹치면 늦게 온 쪽은 건너뜀)
+        if (!flushLock.tryLock()) return;
+        try {
+            // 시작 시점에 쌓인 만큼만 (실패해서 되돌린 ack는 다음 flush에서)
+            int remaining = queue.size();
+            List<Ack> drained = new ArrayList<>(flushSize);
+            while (remaining > 0 && queue.drainTo(drained, Math.min(flushSize, remaining)) > 0) {
+                remaining -= drained.size();
+                write(drained);
+                drained.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushLock.lock();   // 진행 중인 flush가 끝날 때까지 대기
+        flushLock.unlock();
+        flush();
+        log.info("[AckWriteBehindBuffer] flushed on shutdown. remaining={}", queue.size());
+    }
+
+    private void write(List<Ack> drained) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeNow(drained));
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                // 다음 flush에서 다시 시도 (자리가 없으면 버린다)
+                log.warn("ack write-behind failed, re-queue {} acks", drained.size(), e);
+                requeue(drained);
+            } else if (drained.size() == 1) {
+                retryOrDeadLetter(drained.get(0), e);
+            } else {
+                log.warn("ack write-behind batch failed, retry {} acks one by one", drained.size(), e);
+                drained.forEach(this::writeOne);
+            }
+        }
+    }
+
+    private void writeOne(Ack ack) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeNow(List.of(ack)));
+        } catch (RuntimeException e) {
+            if (isTransient(e)) requeue(List.of(ack));
+            else retryOrDeadLetter(ack, e);
+        }
+    }
+
+    private void retryOrDeadLetter(Ack ack, RuntimeException e) {
+        Ack retried = ack.retried();
+        if (retried.attempts() >= maxAttempts) {
+            deadLettered.increment();
+            log.error("ack dead-lettered after {} attempts: {}", retried.attempts(), ack, e);
+            return;
+        }
+        requeue(List.of(retried));
+    }
+
+    private void requeue(List<Ack> acks) {
+        for (Ack ack : acks) {
+            if (!queue.offer(ack)) {
+                rejected.increment();
+                log.warn("ack buffer full, drop {}", ack);
+            }
+        }
+    }
+
+    // 연결 실패 / 락 타임아웃 / 데드락 등 다시 하면 될 수 있는 실패 (시도 횟수에 세지 않음)
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * 버퍼를 거치지 않고 바로 반영 (동기 ack / 배치 이벤트 동기화 등, 호출 측 트랜잭션에 참여)
+     *
+     * @return 반영된 슬롯 id (없는 슬롯 / 남의 슬롯 / 이미 끝난 슬롯 제외)
+     */
+    public Set<Long> writeNow(List<Ack> drained) {
+        // 같은 슬롯은 마지막 ack만
+        Map<Long, Ack> latest = new LinkedHashMap<>();
+        for (Ack ack : drained) latest.put(ack.slotId(), ack);
+        if (latest.isEmpty()) return Set.of();
+
+        // 1) 전이별 조건부 UPDATE 배치
+        Map<SlotTransition, List<SlotStateMachine.Target>> byTransition = new EnumMap<>(SlotTransition.class);
+        for (Ack ack : latest.values()) {
+            byTransition.computeIfAbsent(SlotTransition.toward(ack.status()), k -> new ArrayList<>())
+                    .add(new SlotStateMachine.Target(ack.userId(), ack.slotId()));
+        }
+        Set<Long> applied = new LinkedHashSet<>();
+        byTransition.forEach((transition, targets) -> applied.addAll(slotStateMachine.applyAll(transition, targets)));
+        if (applied.isEmpty()) return applied;
+
+        // 2) 반영된 슬롯의 타입/팩트 id (PK IN 1번)
+        String ids = String.join(",", Collections.nCopies(applied.size(), "?"));
+        Map<Long, SlotRef> slots = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, user_id, content_type, fact_id FROM user_recommendation_slots WHERE id IN (" + ids + ")",
+                rs -> {
+                    slots.put(rs.getLong("id"), new SlotRef(rs.getLong("user_id"),
+                            ContentType.valueOf(rs.getString("content_type")), rs.getObject("fact_id", Long.class)));
+                },
+                applied.toArray());
+
+        List<Object[]> factViews = new ArrayList<>();
+        for (Long slotId : applied) {
+            Ack ack = latest.get(slotId);
+            SlotRef slot = slots.get(slotId);
+            if (slot != null && ack.status() == SlotStatus.SEEN && slot.contentType() == ContentType.FACT && slot.factId() != null) {
+                factViews.add(new Object[]{ack.userId(), slot.factId(), Timestamp.valueOf(ack.at())});
+            }
+        }
+
+        // 3) fact_views 다중 행 INSERT IGNORE
+        if (!factViews.isEmpty()) {
+            String values = String.join(",", Collections.nCopies(factViews.size(), "(?,?,?)"));
+            jdbcTemplate.update("INSERT IGNORE INTO fact_views (user_id, fact_id, view_at) VALUES " + values,
+                    factViews.stream().flatMap(Arrays::stream).toArray());
+        }
+
+        // 4) 메모리 상태 반영 (본 팩트 비트맵, 뉴스 피드 버전)
+        for (Object[] view : factViews) {
+            seenContentService.markSeen((Long) view[0], ContentType.FACT, (Long) view[1]);
+        }
+        slots.values().stream()
+                .filter(slot -> slot.contentType() == ContentType.NEWS)
+                .map(SlotRef::userId)
+                .distinct()
+                .forEach(newsFeedCache::bump);
+
+        flushed.increment(applied.size());
+        return applied;
+    }
+
+    public record Ack(Long userId, Long slotId, SlotStatus status, LocalDateTime at, int attempts) {
+
+        public Ack(Long userId, Long slotId, SlotStatus status, LocalDateTime at) {
+            this(userId, slotId, status, at, 0);
+        }
+
+        private Ack retried() {
+            return new Ack(userId, slotId, status, at, attempts + 1);
+        }
+    }
+
+    private record SlotRef(Long userId, ContentType contentType, Long factId) {
+    }
+}
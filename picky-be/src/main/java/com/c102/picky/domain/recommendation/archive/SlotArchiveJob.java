@@ -0,0 +1,102 @@
+package com.c102.picky.domain.recommendation.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 오래된 종료 슬롯 아카이브 잡
+ * <p>
+ * - 종료 상태(DELIVERED/SEEN/DISMISSED/EXPIRED) + slot_at이 보관 기준일보다 오래된 슬롯을 아카이브 테이블로 옮긴다
+ * - PK 순서로 chunk-size건씩, 청크마다 짧은 트랜잭션(INSERT ... SELECT → DELETE) → 긴 락/대형 undo 없음
+ * - 한 번 실행에 max-chunks까지만 처리하고 나머지는 다음 실행으로
+ * - 기본 비활성: 아카이브를 읽는 곳은 /feed/cursor?includeArchive=true 뿐이고 오프셋 /feed는 핫 테이블만 본다
+ *   → 켜면 오프셋 피드에서 보관 기준일보다 오래된 종료 슬롯이 빠진다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotArchiveJob {
+
+    private static final String TERMINAL_STATUSES = "('DELIVERED', 'SEEN', 'DISMISSED', 'EXPIRED')";
+
+    private static final String SELECT_IDS_SQL = """
+            SELECT id FROM user_recommendation_slots
+            WHERE id > ? AND slot_at < ? AND status IN %s
+            ORDER BY id
+            LIMIT ?
+            """.formatted(TERMINAL_STATUSES);
+
+    private static final String COPY_SQL = """
+            INSERT IGNORE INTO user_recommendation_slots_archive
+              (id, user_id, content_type, news_id, quiz_id, fact_id, slot_at, status, priority, attempted, reason,
+               created_at, updated_at, archived_at)
+            SELECT id, user_id, content_type, news_id, quiz_id, fact_id, slot_at, status, priority, attempted, reason,
+                   created_at, updated_at, NOW()
+            FROM user_recommendation_slots
+            WHERE id IN (%s) AND status IN %s
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM user_recommendation_slots
+            WHERE id IN (%s) AND status IN %s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.recommendation.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.recommendation.archive.age-days:90}")
+    private long ageDays;
+
+    @Value("${app.recommendation.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.recommendation.archive.max-chunks:200}")
+    private int maxChunks;
+
+    @Scheduled(cron = "${app.recommendation.archive.cron:0 0 4 * * *}") // 기본 매일 04:00
+    public void archive() {
+        if (!enabled) return;
+
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(ageDays));
+        long lastId = 0L;
+        int moved = 0;
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, lastId, cutoff, chunkSize);
+            if (ids.isEmpty()) break;
+
+            moved += moveChunk(ids);
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) break;
+        }
+
+        meterRegistry.counter("recommendation.archive.moved").increment(moved);
+        if (moved > 0) log.info("[SlotArchiveJob] archived {} slots older than {}", moved, cutoff);
+    }
+
+    private int moveChunk(List<Long> ids) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+
+        Integer deleted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(COPY_SQL.formatted(placeholders, TERMINAL_STATUSES), args);
+            return jdbcTemplate.update(DELETE_SQL.formatted(placeholders, TERMINAL_STATUSES), args);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
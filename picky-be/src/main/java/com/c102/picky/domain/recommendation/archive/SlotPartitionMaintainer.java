@@ -0,0 +1,94 @@
+package com.c102.picky.domain.recommendation.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * user_recommendation_slots 월 단위 RANGE 파티션 관리
+ * <p>
+ * - 테이블 전환은 db/partition/user_recommendation_slots_partitioning.sql로 1회 수행 (PK가 (id, slot_at)이 되어야 함)
+ * - 파티션 테이블일 때만 동작: 앞으로 ahead-months만큼의 월 파티션을 pmax에서 분할해 미리 만든다
+ * - 아카이브 보관 기준보다 오래되고 비어 있는 월 파티션은 DROP (아카이브 잡이 비운 뒤)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotPartitionMaintainer {
+
+    private static final String TABLE = "user_recommendation_slots";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.recommendation.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.recommendation.partition.ahead-months:3}")
+    private int aheadMonths;
+
+    @Value("${app.recommendation.archive.age-days:90}")
+    private long archiveAgeDays;
+
+    @Scheduled(cron = "${app.recommendation.partition.cron:0 30 4 * * *}") // 기본 매일 04:30 (아카이브 이후)
+    public void maintain() {
+        if (!enabled) return;
+
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, String.class, TABLE);
+        if (!partitions.contains(MAX_PARTITION)) {
+            log.warn("[SlotPartitionMaintainer] {} is not partitioned (no {}). run the partitioning script first.", TABLE, MAX_PARTITION);
+            return;
+        }
+
+        addFuturePartitions(partitions);
+        dropEmptyExpiredPartitions(partitions);
+    }
+
+    private void addFuturePartitions(List<String> partitions) {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= aheadMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = month.format(PARTITION_NAME);
+            if (partitions.contains(name)) continue;
+
+            // pmax를 [month] + pmax로 분할 (pmax가 비어 있으면 메타데이터 작업)
+            jdbcTemplate.execute("""
+                    ALTER TABLE %s REORGANIZE PARTITION %s INTO (
+                      PARTITION %s VALUES LESS THAN (TO_DAYS('%s')),
+                      PARTITION %s VALUES LESS THAN MAXVALUE
+                    )""".formatted(TABLE, MAX_PARTITION, name, month.plusMonths(1).atDay(1), MAX_PARTITION));
+            log.info("[SlotPartitionMaintainer] added partition {}", name);
+        }
+    }
+
+    private void dropEmptyExpiredPartitions(List<String> partitions) {
+        LocalDate cutoff = LocalDate.now().minusDays(archiveAgeDays);
+        for (String name : partitions) {
+            if (MAX_PARTITION.equals(name) || !name.matches("p\\d{6}")) continue;
+
+            YearMonth month = YearMonth.parse(name.substring(1), DateTimeFormatter.ofPattern("yyyyMM"));
+            if (!month.plusMonths(1).atDay(1).isBefore(cutoff)) continue;
+
+            // 파티션 안에 남은 행이 있으면(미처리 상태 등) 건드리지 않는다
+            List<Integer> remaining = jdbcTemplate.queryForList(
+                    "SELECT 1 FROM %s PARTITION (%s) LIMIT 1".formatted(TABLE, name), Integer.class);
+            if (!remaining.isEmpty()) continue;
+
+            jdbcTemplate.execute("ALTER TABLE %s DROP PARTITION %s".formatted(TABLE, name));
+            log.info("[SlotPartitionMaintainer] dropped empty partition {}", name);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.c102.picky.domain.recommendation.bloom;
+
+import com.c102.picky.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 유저별 "최근 N일간 추천된 뉴스" 블룸 필터
+ * <p>
+ * - 일 단위 버킷: Redis 비트맵 rec:bloom:news:{userId}:{yyyyMMdd}, TTL = N일 → 오래된 날은 키 만료로 자연히 빠진다
+ * - 추가: 뉴스 슬롯 업서트 시 SETBIT (파이프라인 1회)
+ * - 조회: 유저들의 N일치 버킷을 MGET으로 한 번에 가져와 메모리에서 판정 (오탐 = 안 본 뉴스를 본 것으로 판단, 미탐 없음)
+ * - 기동 시 1회 최근 N일 슬롯으로 채운다 (노드 간 SETNX로 한 번만)
+ */
+@Slf4j
+@Component
+public class RecommendedNewsFilter implements ApplicationRunner {
+
+    private static final String KEY_PREFIX = "rec:bloom:news:";
+    private static final String SEEDED_KEY = "rec:bloom:news:seeded";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MGET_CHUNK = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter checked;
+    private final Counter filtered;
+
+    @Value("${app.recommendation.news-bloom.bits:4096}")
+    private int bits;
+
+    @Value("${app.recommendation.news-bloom.hashes:7}")
+    private int hashes;
+
+    @Value("${app.recommendation.news-bloom.days:30}")
+    private int days;
+
+    @Value("${app.recommendation.news-bloom.seed-chunk:5000}")
+    private int seedChunk;
+
+    public RecommendedNewsFilter(RedisTemplate<String, Object> redisTemplate, JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.checked = Counter.builder("recommendation.news_bloom.checked").register(meterRegistry);
+        this.filtered = Counter.builder("recommendation.news_bloom.filtered").register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(SEEDED_KEY, LocalDateTime.now().toString(), Duration.ofDays(days));
+        if (!Boolean.TRUE.equals(first)) return;
+
+        Thread seeder = new Thread(this::seed, "news-bloom-seeder");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    /**
+     * 오늘 버킷에 추천된 뉴스 추가 (트랜잭션 안이면 커밋 후, 롤백된 슬롯은 남기지 않는다)
+     */
+    public void add(Long userId, Collection<Long> newsIds) {
+        if (newsIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(newsIds);
+        AfterCommit.run(() -> add(userId, LocalDate.now(), ids));
+    }
+
+    /**
+     * 유저별 후보 중 최근 N일간 추천된 적 없는 것만 (입력 순서 유지)
+     */
+    public Map<Long, List<Long>> filterUnseen(Map<Long, List<Long>> candidatesByUser) {
+        List<Long> userIds = new ArrayList<>(candidatesByUser.keySet());
+        LocalDate today = LocalDate.now();
+
+        List<byte[]> keys = new ArrayList<>(userIds.size() * days);
+        for (Long userId : userIds) {
+            for (int d = 0; d < days; d++) keys.add(key(userId, today.minusDays(d)));
+        }
+        List<byte[]> buckets = mget(keys);
+
+        Map<Long, List<Long>> unseen = new LinkedHashMap<>();
+        for (int u = 0; u < userIds.size(); u++) {
+            Long userId = userIds.get(u);
+            List<byte[]> userBuckets = buckets.subList(u * days, (u + 1) * days);
+            List<Long> candidates = candidatesByUser.get(userId);
+            List<Long> result = new ArrayList<>(candidates.size());
+            for (Long newsId : candidates) {
+                if (newsId != null && !mightContain(userBuckets, newsId)) result.add(newsId);
+            }
+            checked.increment(candidates.size());
+            filtered.increment(candidates.size() - result.size());
+            unseen.put(userId, result);
+        }
+        return unseen;
+    }
+
+    private void add(Long userId, LocalDate day, Collection<Long> newsIds) {
+        byte[] key = key(userId, day);
+        long ttlSeconds = Duration.between(LocalDateTime.now(), day.plusDays(days).atStartOfDay()).getSeconds();
+        if (ttlSeconds <= 0) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long newsId : newsIds) {
+                for (long offset : offsets(newsId, bits, hashes)) connection.stringCommands().setBit(key, offset, true);
+            }
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    // 최근 N일 NEWS 슬롯을 id 구간 단위로 읽어 (유저, 생성일) 버킷에 채운다
+    private void seed() {
+        long started = System.currentTimeMillis();
+        LocalDateTime since = LocalDate.now().minusDays(days - 1L).atStartOfDay();
+        long lastId = 0;
+        long rows = 0;
+        try {
+            while (true) {
+                List<Object[]> chunk = jdbcTemplate.query("""
+                                SELECT id, user_id, news_id, DATE(created_at) FROM user_recommendation_slots
+                                WHERE id > ? AND created_at >= ? AND news_id IS NOT NULL
+                                ORDER BY id LIMIT ?
+                                """,
+                        (rs, i) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getDate(4).toLocalDate()},
+                        lastId, since, seedChunk);
+                if (chunk.isEmpty()) break;
+
+                Map<Long, Map<LocalDate, List<Long>>> grouped = new HashMap<>();
+                for (Object[] row : chunk) {
+                    grouped.computeIfAbsent((Long) row[1], k -> new HashMap<>())
+                            .computeIfAbsent((LocalDate) row[3], k -> new ArrayList<>())
+                            .add((Long) row[2]);
+                }
+                grouped.forEach((userId, byDay) -> byDay.forEach((day, newsIds) -> add(userId, day, newsIds)));
+
+                lastId = (Long) chunk.get(chunk.size() - 1)[0];
+                rows += chunk.size();
+            }
+            log.info("[RecommendedNewsFilter] seeded {} slots in {} ms", rows, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            // 다음 기동 때 다시 시도하도록 표식 제거
+            redisTemplate.delete(SEEDED_KEY);
+            log.warn("[RecommendedNewsFilter] seed failed after {} slots", rows, e);
+        }
+    }
+
+    private List<byte[]> mget(List<byte[]> keys) {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (int from = 0; from < keys.size(); from += MGET_CHUNK) {
+            byte[][] chunk = keys.subList(from, Math.min(keys.size(), from + MGET_CHUNK)).toArray(new byte[0][]);
+            List<byte[]> got = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(chunk));
+            if (got == null) got = Collections.nCopies(chunk.length, null);
+            values.addAll(got);
+        }
+        return values;
+    }
+
+    private boolean mightContain(List<byte[]> buckets, long newsId) {
+        long[] offsets = offsets(newsId, bits, hashes);
+        for (byte[] bucket : buckets) {
+            if (bucket != null && allSet(bucket, offsets)) return true;
+        }
+        return false;
+    }
+
+    // Redis 비트맵은 바이트 내 최상위 비트가 offset 0
+    static boolean allSet(byte[] bitmap, long[] offsets) {
+        for (long offset : offsets) {
+            int index = (int) (offset >>> 3);
+            if (index >= bitmap.length || (bitmap[index] & (0x80 >>> (offset & 7))) == 0) return false;
+        }
+        return true;
+    }
+
+    // 이중 해싱: 64비트 믹스의 상/하위 32비트로 k개 위치
+    static long[] offsets(long newsId, int bits, int hashes) {
+        long mixed = mix(newsId);
+        int h1 = (int) mixed;
+        int h2 = (int) (mixed >>> 32);
+        long[] offsets = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            offsets[i] = Integer.toUnsignedLong(h1 + i * h2) % bits;
+        }
+        return offsets;
+    }
+
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static byte[] key(Long userId, LocalDate day) {
+        return (KEY_PREFIX + userId + ":" + DAY.format(day)).getBytes(StandardCharsets.UTF_8);
+    }
+}
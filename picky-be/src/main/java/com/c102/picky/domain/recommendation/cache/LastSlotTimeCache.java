@@ -0,0 +1,114 @@
+package com.c102.picky.domain.recommendation.cache;
+
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * (userId, contentType) -> 마지막 슬롯 시간 (Redis 공유)
+ * <p>
+ * - 다음 슬롯 시간 계산(마지막 slotAt + interval)에 매번 DB를 읽지 않도록 Redis에 보관
+ * - 예약은 Lua 스크립트 1번: 마지막 값 읽기 → interval씩 count개 계산 → 마지막 값 저장을 원자적으로
+ *   → 여러 노드 / 단건·배치 업서트가 동시에 예약해도 서로 다른 시간을 받는다
+ * - 키가 없으면(최초 / 만료) DB의 마지막 slotAt으로 SET NX 시드 후 다시 예약
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastSlotTimeCache {
+
+    private static final String KEY_PREFIX = "rec:lastslot:";
+    private static final String NONE = "-";     // 슬롯이 하나도 없음 → 첫 슬롯은 현재 + interval
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * @return 첫 슬롯 시간(epoch seconds), 시드 전이면 nil
+     */
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local last = redis.call('GET', KEYS[1])
+            if not last then return false end
+            local interval = tonumber(ARGV[1])
+            local first
+            if last == '-' then
+              first = tonumber(ARGV[3]) + interval
+            else
+              first = tonumber(last) + interval
+            end
+            local final = first + (tonumber(ARGV[2]) - 1) * interval
+            redis.call('SET', KEYS[1], string.format('%d', final), 'EX', ARGV[4])
+            return first
+            """, Long.class);
+
+    private final UserRecommendationSlotRepository slotRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.recommendation.last-slot-cache.ttl-days:30}")
+    private long ttlDays;
+
+    /**
+     * 마지막 슬롯 시간 기준으로 다음 슬롯 시간을 예약한다 (마지막 slotAt + interval, 없으면 현재 + interval)
+     */
+    public LocalDateTime reserveNext(Long userId, ContentType contentType, int intervalMinutes) {
+        return reserveSeries(userId, contentType, intervalMinutes, 1).get(0);
+    }
+
+    /**
+     * interval 간격의 연속 슬롯 시간 count개를 한 번에 예약한다 (배치 업서트용)
+     */
+    public List<LocalDateTime> reserveSeries(Long userId, ContentType contentType, int intervalMinutes, int count) {
+        Long first = reserve(userId, contentType, intervalMinutes, count);
+        if (first == null) {
+            seed(userId, contentType);
+            first = reserve(userId, contentType, intervalMinutes, count);
+            if (first == null) throw new IllegalStateException("last slot time not seeded: " + key(userId, contentType));
+        }
+
+        List<LocalDateTime> slotTimes = new ArrayList<>(count);
+        LocalDateTime slotAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(first), ZONE);
+        for (int i = 0; i < count; i++) {
+            slotTimes.add(slotAt.plusMinutes((long) intervalMinutes * i));
+        }
+        return slotTimes;
+    }
+
+    private Long reserve(Long userId, ContentType contentType, int intervalMinutes, int count) {
+        return redisTemplate.execute(RESERVE_SCRIPT, List.of(key(userId, contentType)),
+                String.valueOf(intervalMinutes * 60L),
+                String.valueOf(count),
+                String.valueOf(toEpoch(LocalDateTime.now())),
+                String.valueOf(Duration.ofDays(ttlDays).toSeconds()));
+    }
+
+    /**
+     * DB의 마지막 slotAt으로 시드 (동시에 시드해도 SET NX라 먼저 쓴 값이 유지됨)
+     */
+    private void seed(Long userId, ContentType contentType) {
+        String last = slotRepository.findTopByUserIdAndContentTypeOrderBySlotAtDesc(userId, contentType)
+                .map(UserRecommendationSlot::getSlotAt)
+                .map(slotAt -> String.valueOf(toEpoch(slotAt)))
+                .orElse(NONE);
+        redisTemplate.opsForValue().setIfAbsent(key(userId, contentType), last, Duration.ofDays(ttlDays));
+        log.debug("last slot time seeded userId={}, type={}, last={}", userId, contentType, last);
+    }
+
+    private static String key(Long userId, ContentType contentType) {
+        return KEY_PREFIX + userId + ":" + contentType;
+    }
+
+    private static long toEpoch(LocalDateTime time) {
+        return time.atZone(ZONE).toEpochSecond();
+    }
+}
@@ -0,0 +1,88 @@
+package com.c102.picky.domain.recommendation.cache;
+
+import com.c102.picky.domain.recommendation.dto.FeedSort;
+import com.c102.picky.domain.recommendation.dto.NewsFeedItemDto;
+import com.c102.picky.global.dto.PageResponse;
+import com.c102.picky.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 개인화 뉴스 피드 앞쪽 페이지 캐시
+ * <p>
+ * - 유저별 "피드 버전"(Redis INCR, 노드 공통)을 캐시 키에 포함 → 버전이 오르면 이전 항목은 자연히 조회되지 않는다 (TTL 추측 불필요)
+ * - 버전은 NEWS 슬롯 업서트 / 배달 / ack 시 올린다
+ * - 페이지 본문은 노드 로컬 LRU에 보관 (기본 파라미터의 앞 페이지만)
+ */
+@Component
+public class NewsFeedCache {
+
+    private static final String VERSION_PREFIX = "rec:feedver:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, PageResponse<NewsFeedItemDto>> pages;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${app.recommendation.feed-cache.max-page:1}")
+    private int maxCachedPage;
+
+    public NewsFeedCache(RedisTemplate<String, Object> redisTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.recommendation.feed-cache.max-entries:10000}") int maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.pages = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PageResponse<NewsFeedItemDto>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("recommendation.feed.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("recommendation.feed.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 기간 필터 없는 앞쪽 페이지만 캐시한다
+     */
+    public boolean isCacheable(int page, LocalDateTime from, LocalDateTime to) {
+        return page <= maxCachedPage && from == null && to == null;
+    }
+
+    public PageResponse<NewsFeedItemDto> getOrLoad(Long userId, int page, int size, FeedSort sort,
+                                                   Supplier<PageResponse<NewsFeedItemDto>> loader) {
+        String key = userId + ":" + currentVersion(userId) + ":" + page + ":" + size + ":" + sort;
+
+        PageResponse<NewsFeedItemDto> cached = pages.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        PageResponse<NewsFeedItemDto> loaded = loader.get();
+        pages.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 피드 내용이 바뀔 수 있는 변경 시 호출 → 이후 조회는 새 버전 키로 미스
+     * 트랜잭션 안이면 커밋 후에 올린다 (커밋 전 조회가 옛 내용을 새 버전 키로 캐시하지 않게)
+     */
+    public void bump(Long userId) {
+        AfterCommit.run(() -> redisTemplate.opsForValue().increment(VERSION_PREFIX + userId));
+    }
+
+    private long currentVersion(Long userId) {
+        Object version = redisTemplate.opsForValue().get(VERSION_PREFIX + userId);
+        return version == null ? 0L : Long.parseLong(String.valueOf(version));
+    }
+}
@@ -0,0 +1,121 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import com.c102.picky.domain.content.service.SeenContentService;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 뉴스/퀴즈 후보 검색 (JVM 내 HNSW)
+ * <p>
+ * - snapshot-dir의 news.vec / quiz.vec(EmbeddingSnapshotReader 형식)을 읽어 타입별 인덱스를 만든다
+ *   (data-engine의 snapshot_exporter가 Qdrant 컬렉션을 주기적으로 내보낸다)
+ * - 기동 후 전용 스레드에서 빌드, 파일이 바뀌면(수정 시각) 새로 빌드한 뒤 참조만 교체 → 검색은 끊기지 않는다
+ *   (빌드는 수십 초 걸릴 수 있어 공용 @Scheduled 스레드를 쓰지 않는다)
+ * - 검색: 유저 벡터 기준 top-K, 이미 본 콘텐츠는 SeenContentService 비트맵으로 걸러낸다 (DB 조회 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateIndexService implements ApplicationRunner {
+
+    private static final Map<ContentType, String> SNAPSHOT_FILES = Map.of(
+            ContentType.NEWS, "news.vec",
+            ContentType.QUIZ, "quiz.vec"
+    );
+
+    private final SeenContentService seenContentService;
+
+    private final Map<ContentType, HnswIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<ContentType, Long> loadedModifiedAt = new EnumMap<>(ContentType.class);
+    private final ThreadPoolTaskScheduler loaderScheduler = new ThreadPoolTaskScheduler();
+
+    @Value("${app.recommendation.candidate.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recommendation.candidate.snapshot-dir:/app/data/embeddings}")
+    private String snapshotDir;
+
+    @Value("${app.recommendation.candidate.m:16}")
+    private int m;
+
+    @Value("${app.recommendation.candidate.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${app.recommendation.candidate.ef-search:100}")
+    private int efSearch;
+
+    @Value("${app.recommendation.candidate.reload-interval-ms:600000}")
+    private long reloadIntervalMs;
+
+    // 기동 직후 1번 + 이후 reload-interval-ms마다 (이전 빌드가 끝난 뒤부터 셈)
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        loaderScheduler.setPoolSize(1);
+        loaderScheduler.setThreadNamePrefix("candidate-index-loader-");
+        loaderScheduler.setDaemon(true);
+        loaderScheduler.initialize();
+        loaderScheduler.scheduleWithFixedDelay(this::reloadIfChanged, Duration.ofMillis(reloadIntervalMs));
+    }
+
+    @PreDestroy
+    void stopLoader() {
+        loaderScheduler.shutdown();
+    }
+
+    synchronized void reloadIfChanged() {
+        if (!enabled) return;
+        for (Map.Entry<ContentType, String> file : SNAPSHOT_FILES.entrySet()) {
+            Path path = Paths.get(snapshotDir, file.getValue());
+            try {
+                if (!Files.exists(path)) continue;
+                long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+                if (Long.valueOf(modifiedAt).equals(loadedModifiedAt.get(file.getKey()))) continue;
+
+                long started = System.currentTimeMillis();
+                HnswIndex index = EmbeddingSnapshotReader.read(path, m, efConstruction);
+                indexes.put(file.getKey(), index);
+                loadedModifiedAt.put(file.getKey(), modifiedAt);
+                log.info("[CandidateIndex] {} loaded. size={}, dim={}, took={}ms",
+                        file.getKey(), index.size(), index.dimension(), System.currentTimeMillis() - started);
+            } catch (IOException | RuntimeException e) {
+                log.warn("[CandidateIndex] failed to load {}", path, e);
+            }
+        }
+    }
+
+    public boolean isReady(ContentType contentType) {
+        return indexes.containsKey(contentType);
+    }
+
+    /**
+     * 유저 벡터 기준 안 본 콘텐츠 top-K (유사도 내림차순)
+     */
+    public List<HnswIndex.Result> topKUnseen(Long userId, ContentType contentType, float[] userVector, int k) {
+        HnswIndex index = indexes.get(contentType);
+        if (index == null) throw new ApiException(ErrorCode.RESOURCE_NOT_FOUND);   // 인덱스 미적재 (FACT 포함)
+        if (userVector == null || userVector.length != index.dimension()) throw new ApiException(ErrorCode.VALIDATION_FAILED);
+
+        return index.search(userVector, k, Math.max(efSearch, k),
+                id -> !seenContentService.isSeen(userId, contentType, id));
+    }
+}
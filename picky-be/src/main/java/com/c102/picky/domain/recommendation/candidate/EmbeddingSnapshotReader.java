@@ -0,0 +1,44 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 임베딩 스냅샷 파일 → HNSW 인덱스
+ * <p>
+ * 파일 형식 (big-endian, DataOutputStream으로 그대로 쓸 수 있음):
+ * <pre>
+ * int   magic  = 0x504B4556 ("PKEV")
+ * int   dim
+ * int   count
+ * count x { long id, float[dim] vector }
+ * </pre>
+ */
+final class EmbeddingSnapshotReader {
+
+    static final int MAGIC = 0x504B4556;
+
+    private EmbeddingSnapshotReader() {
+    }
+
+    static HnswIndex read(Path path, int m, int efConstruction) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("not an embedding snapshot: " + path);
+            int dim = in.readInt();
+            int count = in.readInt();
+            if (dim <= 0 || count < 0) throw new IOException("invalid snapshot header: dim=" + dim + ", count=" + count);
+
+            HnswIndex index = new HnswIndex(dim, m, efConstruction, count, path.getFileName().toString().hashCode());
+            float[] vector = new float[dim];
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                for (int d = 0; d < dim; d++) vector[d] = in.readFloat();
+                index.add(id, vector);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.LongPredicate;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스 - 코사인 유사도
+ * <p>
+ * - 벡터는 정규화해서 하나의 float[]에 연속 저장 (유사도 = 내적)
+ * - 빌드(add)는 단일 스레드, 빌드가 끝난 인덱스의 search는 여러 스레드에서 동시에 호출해도 된다
+ * - search는 filter를 통과한 노드만 결과에 담고, 탐색(그래프 이동)은 걸러진 노드도 거친다
+ *   → "안 본 것만 top-K"처럼 결과 조건이 있어도 그래프 연결성이 유지된다
+ */
+public final class HnswIndex {
+
+    private final int dim;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private final VectorScorer scorer = VectorScorers.get();
+
+    private float[] vectors;
+    private long[] ids;
+    private int[] levels;
+    private int[][][] links;    // links[node][level] = 이웃 노드 번호
+
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dim, int m, int efConstruction, int expectedSize, long seed) {
+        this.dim = dim;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new Random(seed);
+
+        int capacity = Math.max(expectedSize, 16);
+        this.vectors = new float[capacity * dim];
+        this.ids = new long[capacity];
+        this.levels = new int[capacity];
+        this.links = new int[capacity][][];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dim;
+    }
+
+    public void add(long id, float[] vector) {
+        if (vector.length != dim) throw new IllegalArgumentException("dimension mismatch: " + vector.length + " != " + dim);
+        ensureCapacity(size + 1);
+
+        int node = size++;
+        ids[node] = id;
+        System.arraycopy(normalize(vector), 0, vectors, node * dim, dim);
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        levels[node] = level;
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) links[node][l] = new int[0];
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int offset = node * dim;
+        int current = entryPoint;
+
+        // 1) 상위 레이어: 탐욕적으로 가장 가까운 노드 하나만 따라 내려간다
+        for (int l = maxLevel; l > level; l--) current = greedy(vectors, offset, current, l);
+
+        // 2) 노드 레이어 이하: efConstruction 후보 중 휴리스틱으로 이웃 선택 + 양방향 연결
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Scored> candidates = searchLayer(vectors, offset, current, efConstruction, l, null);
+            int maxLinks = l == 0 ? maxM0 : m;
+            int[] neighbors = selectNeighbors(candidates, maxLinks);
+            links[node][l] = neighbors;
+
+            for (int neighbor : neighbors) connect(neighbor, node, l, maxLinks);
+            current = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * @param query  질의 벡터 (정규화하지 않아도 됨)
+     * @param k      결과 수
+     * @param ef     탐색 폭 (클수록 정확, 느림; k 이상)
+     * @param filter 결과 포함 조건 (id 기준, null이면 전체)
+     * @return 유사도 내림차순
+     */
+    public List<Result> search(float[] query, int k, int ef, LongPredicate filter) {
+        if (entryPoint < 0 || k <= 0) return List.of();
+        if (query.length != dim) throw new IllegalArgumentException("dimension mismatch: " + query.length + " != " + dim);
+
+        float[] q = normalize(query);
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) current = greedy(q, 0, current, l);
+
+        List<Scored> found = searchLayer(q, 0, current, Math.max(ef, k), 0, filter);
+        List<Result> results = new ArrayList<>(Math.min(k, found.size()));
+        for (int i = 0; i < found.size() && results.size() < k; i++) {
+            results.add(new Result(ids[found.get(i).node()], found.get(i).score()));
+        }
+        return results;
+    }
+
+    private int greedy(float[] q, int qOffset, int start, int level) {
+        int current = start;
+        float best = dot(q, qOffset, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : links[current][level]) {
+                float score = dot(q, qOffset, neighbor);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 레이어 탐색: 후보는 유사도 높은 순으로 확장, 결과는 ef개 유지 (filter 통과 노드만)
+     * @return 유사도 내림차순
+     */
+    private List<Scored> searchLayer(float[] q, int qOffset, int start, int ef, int level, LongPredicate filter) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(Comparator.comparingDouble(Scored::score).reversed());
+        PriorityQueue<Scored> results = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+
+        Scored first = new Scored(start, dot(q, qOffset, start));
+        visited.set(start);
+        candidates.add(first);
+        if (accepts(filter, start)) results.add(first);
+
+        while (!candidates.isEmpty()) {
+            Scored candidate = candidates.poll();
+            if (results.size() >= ef && candidate.score() < results.peek().score()) break;
+
+            for (int neighbor : links[candidate.node()][level]) {
+                if (visited.get(neighbor)) continue;
+                visited.set(neighbor);
+
+                float score = dot(q, qOffset, neighbor);
+                if (results.size() < ef || score > results.peek().score()) {
+                    Scored scored = new Scored(neighbor, score);
+                    candidates.add(scored);
+                    if (accepts(filter, neighbor)) {
+                        results.add(scored);
+                        if (results.size() > ef) results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return sorted;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 고른 이웃보다 질의 노드에 더 가까운 후보만 채택 (방향 다양성 확보)
+     */
+    private int[] selectNeighbors(List<Scored> candidates, int maxLinks) {
+        int[] selected = new int[Math.min(maxLinks, candidates.size())];
+        int count = 0;
+        for (Scored candidate : candidates) {
+            if (count >= maxLinks) break;
+            boolean diverse = true;
+            for (int i = 0; i < count; i++) {
+                if (dot(vectors, selected[i] * dim, candidate.node()) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) selected[count++] = candidate.node();
+        }
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    private void connect(int from, int to, int level, int maxLinks) {
+        int[] current = links[from][level];
+        if (current.length < maxLinks) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = to;
+            links[from][level] = grown;
+            return;
+        }
+
+        // 가득 찼으면 기존 이웃 + 새 노드 중에서 다시 고른다
+        int offset = from * dim;
+        List<Scored> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbor : current) candidates.add(new Scored(neighbor, dot(vectors, offset, neighbor)));
+        candidates.add(new Scored(to, dot(vectors, offset, to)));
+        candidates.sort(Comparator.comparingDouble(Scored::score).reversed());
+        links[from][level] = selectNeighbors(candidates, maxLinks);
+    }
+
+    private boolean accepts(LongPredicate filter, int node) {
+        return filter == null || filter.test(ids[node]);
+    }
+
+    private float dot(float[] q, int qOffset, int node) {
+        return scorer.dot(q, qOffset, vectors, node * dim, dim);
+    }
+
+    private float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) norm += v * v;
+        norm = Math.sqrt(norm);
+        float[] normalized = new float[vector.length];
+        if (norm == 0) return normalized;
+        for (int i = 0; i < vector.length; i++) normalized[i] = (float) (vector[i] / norm);
+        return normalized;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) return;
+        int capacity = Math.max(required, ids.length * 2);
+        vectors = Arrays.copyOf(vectors, capacity * dim);
+        ids = Arrays.copyOf(ids, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    private record Scored(int node, float score) {
+    }
+
+    public record Result(long id, float score) {
+    }
+}
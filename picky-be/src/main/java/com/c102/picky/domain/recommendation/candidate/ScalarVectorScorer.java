@@ -0,0 +1,40 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+/**
+ * 스칼라 구현 (Vector API를 쓸 수 없을 때의 기본값)
+ */
+final class ScalarVectorScorer implements VectorScorer {
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) sum += a[aOffset + i] * b[bOffset + i];
+        return sum;
+    }
+
+    @Override
+    public void cosineAll(float[] query, float[] matrix, int dim, int count, float[] out) {
+        float queryNorm = (float) Math.sqrt(dot(query, 0, query, 0, dim));
+        for (int row = 0; row < count; row++) {
+            int offset = row * dim;
+            float dot = 0f;
+            float norm = 0f;
+            for (int i = 0; i < dim; i++) {
+                float v = matrix[offset + i];
+                dot += query[i] * v;
+                norm += v * v;
+            }
+            out[row] = cosine(dot, queryNorm, norm);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static float cosine(float dot, float queryNorm, float rowNormSquared) {
+        float denominator = queryNorm * (float) Math.sqrt(rowNormSquared);
+        return denominator == 0f ? 0f : dot / denominator;
+    }
+}
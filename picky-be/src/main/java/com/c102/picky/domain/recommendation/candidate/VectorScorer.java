@@ -0,0 +1,19 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+/**
+ * 벡터 유사도 계산기 (구현은 기동 시 {@link VectorScorers#get()}가 고른다)
+ */
+public interface VectorScorer {
+
+    /**
+     * a[aOffset..aOffset+length) · b[bOffset..bOffset+length)
+     */
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * query와 행렬(행 우선, count x dim 연속 저장)의 각 행 사이 코사인 유사도 → out[0..count)
+     */
+    void cosineAll(float[] query, float[] matrix, int dim, int count, float[] out);
+
+    String name();
+}
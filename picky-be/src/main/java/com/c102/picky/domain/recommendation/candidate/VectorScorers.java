@@ -0,0 +1,50 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * 기동 시 1회 벡터 계산기 선택
+ * - JVM에 jdk.incubator.vector 모듈이 있으면(--add-modules) SIMD, 아니면 스칼라
+ * - -Dpicky.vector.simd=false로 강제로 스칼라 사용 가능
+ * - 모듈이 없으면 SimdVectorScorer 클래스 자체를 로드하지 않는다 (경고/링크 오류 없이 스칼라)
+ * - SimdVectorScorer는 src/simd 소스셋에 있어 이름으로 로드한다 (메인 컴파일은 인큐베이터 API를 참조하지 않음)
+ */
+@Slf4j
+public final class VectorScorers {
+
+    private static final String SIMD_SCORER = "com.c102.picky.domain.recommendation.candidate.SimdVectorScorer";
+    private static final VectorScorer SELECTED = select();
+
+    private VectorScorers() {
+    }
+
+    public static VectorScorer get() {
+        return SELECTED;
+    }
+
+    public static VectorScorer scalar() {
+        return new ScalarVectorScorer();
+    }
+
+    /**
+     * 모듈이 있고 쓸 수 있으면 SIMD 구현, 아니면 empty
+     */
+    static Optional<VectorScorer> simd() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return Optional.empty();
+        try {
+            return Optional.of((VectorScorer) Class.forName(SIMD_SCORER).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("[VectorScorers] vector API not usable, fallback to scalar", e);
+            return Optional.empty();
+        }
+    }
+
+    private static VectorScorer select() {
+        boolean allowed = Boolean.parseBoolean(System.getProperty("picky.vector.simd", "true"));
+        VectorScorer scorer = allowed ? simd().orElseGet(VectorScorers::scalar) : scalar();
+        log.info("[VectorScorers] using {}", scorer.name());
+        return scorer;
+    }
+}
@@ -1,54 +1,156 @@
 package com.c102.picky.domain.recommendation.controller;
 
+import com.c102.picky.domain.recommendation.bloom.RecommendedNewsFilter;
+import com.c102.picky.domain.recommendation.candidate.CandidateIndexService;
 import com.c102.picky.domain.recommendation.dto.*;
 import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.planner.DeliveryPlanner;
 import com.c102.picky.domain.recommendation.service.RecommendationService;
+import com.c102.picky.domain.recommendation.service.RecommendationSlotBatchService;
+import com.c102.picky.domain.recommendation.stream.RecommendationStreamService;
 import com.c102.picky.global.dto.ApiResponse;
+import com.c102.picky.global.dto.CursorPageResponse;
 import com.c102.picky.global.dto.PageResponse;
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import com.c102.picky.global.idempotency.IdempotencyStore;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.*;
 
 @RestController
 @RequestMapping("/api/recommendations")
 @RequiredArgsConstructor
 class RecommendationController {
     private final RecommendationService recommendationService;
+    private final RecommendationSlotBatchService recommendationSlotBatchService;
+    private final RecommendationStreamService recommendationStreamService;
+    private final IdempotencyStore idempotencyStore;
+    private final CandidateIndexService candidateIndexService;
+    private final RecommendedNewsFilter recommendedNewsFilter;
+    private final DeliveryPlanner deliveryPlanner;
 
     /**
      * 다음 팝업용 추천 1건 가져오기
+     * <p>
+     * 배달 계획(메모리)이 먼저 판단: 꺼진 타입 / 도래 전 / 마지막 배달 후 알림 간격 안이면 DB 접근 없이 빈 응답
+     * 빈 응답에는 Retry-After 헤더 + retryAfterSeconds (다음 슬롯 도래까지, 클라이언트는 그만큼 쉬었다가 다시 폴링)
      *
      * @param request
-     * @param type        NEWS | QUIZ | FACT
-     * @param windowStart 기본 : 정시
-     * @param windowEnd   기본 : 정시 + 5분
+     * @param type    NEWS | QUIZ | FACT (생략 시 켜진 타입 중 가장 먼저 도래한 것)
      * @return
      */
     @GetMapping("/next")
     public ResponseEntity<ApiResponse<RecommendationPayloadResponseDto>> getNextRecommendation(
             HttpServletRequest request,
-            @RequestParam ContentType type
+            @RequestParam(required = false) ContentType type
     ) {
         Long userId = (Long) request.getAttribute("userId");
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = now.minusDays(2);
-        LocalDateTime end = now.plusDays(1);
 
-        var payload = recommendationService.getNextRecommendation(userId, type, start, end);
+        var decision = deliveryPlanner.decide(userId, type, now);
+        if (decision.outcome() == DeliveryPlanner.Outcome.DISABLED) {
+            return empty(request, "알림이 꺼져 있는 콘텐츠입니다.", deliveryPlanner.retryAfterSeconds(decision, now));
+        }
+        if (!decision.isDeliverable()) {
+            return empty(request, "현재 추천할 콘텐츠를 준비중입니다. 잠시 후 다시 확인해주세요!", deliveryPlanner.retryAfterSeconds(decision, now));
+        }
+
+        var payload = recommendationService.getNextRecommendation(userId, decision.contentType(),
+                deliveryPlanner.windowStart(now), deliveryPlanner.windowEnd(now));
+        // 배달했든 비었든 다음 슬롯 시간은 바뀌었을 수 있다
+        deliveryPlanner.invalidate(userId, decision.contentType());
 
         if (payload == null) {
-            return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "현재 추천할 콘텐츠를 준비중입니다. 잠시 후 다시 확인해주세요!", null, request.getRequestURI()));
+            return empty(request, "현재 추천할 콘텐츠를 준비중입니다. 잠시 후 다시 확인해주세요!", deliveryPlanner.retryAfterSeconds(userId, type, now));
         }
+        // 알림 간격 동안은 다음 배달을 막는다
+        deliveryPlanner.recordDelivered(userId, now);
 
         return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "추천 조회 성공", payload, request.getRequestURI()));
     }
 
+    private static ResponseEntity<ApiResponse<RecommendationPayloadResponseDto>> empty(HttpServletRequest request, String message,
+                                                                               long retryAfterSeconds) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.retryAfter(HttpStatus.OK, message, request.getRequestURI(), retryAfterSeconds));
+    }
+
+    /**
+     * 여러 타입의 추천을 한 번에 가져오기 (프리페치 번들)
+     * 예) /next?types=NEWS,QUIZ,FACT&count=3
+     * <p>
+     * 단건과 같은 배달 계획 판단(꺼짐 / 도래 전 / 알림 간격 게이트)을 타입마다 거쳐 배달 가능한 타입만 선점하고,
+     * 한 건이라도 배달했으면 알림 간격 게이트를 닫는다. 빈 응답에는 가장 이른 재시도 힌트를 Retry-After 헤더로 준다.
+     *
+     * @param types 요청 타입 (응답도 이 순서로 정렬)
+     * @param count 타입별 최대 건수 (1~10)
+     */
+    @GetMapping(value = "/next", params = "types")
+    public ResponseEntity<ApiResponse<List<RecommendationPayloadResponseDto>>> getNextRecommendations(
+            HttpServletRequest request,
+            @RequestParam List<ContentType> types,
+            @RequestParam(defaultValue = "1") int count
+    ) {
+        Long userId = (Long) request.getAttribute("userId");
+        LocalDateTime now = LocalDateTime.now();
+
+        // 배달 가능한 타입만 선점한다 (나머지는 DB 접근 없이 돌려보냄)
+        List<ContentType> dueTypes = new ArrayList<>();
+        List<DeliveryPlanner.Decision> blocked = new ArrayList<>();
+        for (ContentType type : new LinkedHashSet<>(types)) {
+            var decision = deliveryPlanner.decide(userId, type, now);
+            if (decision.isDeliverable()) dueTypes.add(type);
+            else blocked.add(decision);
+        }
+        if (!types.isEmpty() && dueTypes.isEmpty()) {
+            // 힌트는 가장 먼저 풀리는 쪽: 게이트(유저 단위) → 가장 이른 도래 → 꺼짐
+            var soonest = blocked.stream()
+                    .min(Comparator.comparing(DeliveryPlanner.Decision::outcome)
+                            .thenComparing(DeliveryPlanner.Decision::nextDueAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .orElseThrow();
+            String message = soonest.outcome() == DeliveryPlanner.Outcome.DISABLED
+                    ? "알림이 꺼져 있는 콘텐츠입니다." : "현재 추천할 콘텐츠를 준비중입니다. 잠시 후 다시 확인해주세요!";
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(deliveryPlanner.retryAfterSeconds(soonest, now)))
+                    .body(ApiResponse.of(HttpStatus.OK, message, List.of(), request.getRequestURI()));
+        }
+
+        var payloads = recommendationService.getNextRecommendations(userId, dueTypes, count,
+                deliveryPlanner.windowStart(now), deliveryPlanner.windowEnd(now));
+        dueTypes.forEach(type -> deliveryPlanner.invalidate(userId, type));
+        // 단건 /next와 같은 알림 간격 게이트
+        if (!payloads.isEmpty()) deliveryPlanner.recordDelivered(userId, now);
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "추천 번들 조회 성공", payloads, request.getRequestURI()));
+    }
+
+
+    /**
+     * 추천 푸시 구독 (SSE)
+     * <p>
+     * 슬롯이 도래하면 event: recommendation, id: slotId 로 페이로드를 보낸다.
+     * 재연결 시 Last-Event-ID 헤더를 주면 그 이후에 보낸 이벤트를 다시 받는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            HttpServletRequest request,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        Long userId = (Long) request.getAttribute("userId");
+        if (userId == null) throw new ApiException(ErrorCode.UNAUTHORIZED);
+        return recommendationStreamService.subscribe(userId, lastEventId);
+    }
 
     /**
      * 클릭 / 닫기 등 사용자 상호작용 시 상태 업데이트
@@ -65,15 +167,74 @@ class RecommendationController {
 
     /**
      * (내부/패치) 슬롯 UPSERT
+     * <p>
+     * 재시도 대비 멱등 처리: Idempotency-Key 헤더(없으면 본문 해시)가 같으면 DB 작업 없이 첫 결과를 그대로 반환
+     * (같은 키에 다른 본문이면 422 IDEMPOTENCY_KEY_REUSED)
      */
     @PostMapping("/slots")
-    public ResponseEntity<ApiResponse<Void>> upsertSlot(
+    public ResponseEntity<ApiResponse<RecommendationUpsertResponseDto>> upsertSlot(
             HttpServletRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody RecommendationUpsertRequestDto dto
     ) {
-        recommendationService.upsertSlot(dto);
+        var data = idempotencyStore.execute("slot-upsert", idempotencyKey, dto,
+                RecommendationUpsertResponseDto.class, () -> recommendationService.upsertSlot(dto));
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.of(HttpStatus.CREATED, "슬롯 업서트 성공", null, request.getRequestURI()));
+                .body(ApiResponse.of(HttpStatus.CREATED, "슬롯 업서트 성공", data, request.getRequestURI()));
+    }
+
+    /**
+     * (내부/패치) 슬롯 배치 UPSERT
+     * <p>
+     * 여러 유저/타입의 슬롯을 한 번에 받아 (userId, contentType) 단위로 처리하고 항목별 결과를 반환
+     * (단건과 같은 방식으로 멱등 처리)
+     */
+    @PostMapping("/slots/batch")
+    public ResponseEntity<ApiResponse<RecommendationBatchUpsertResponseDto>> upsertSlots(
+            HttpServletRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody RecommendationBatchUpsertRequestDto dto
+    ) {
+        var data = idempotencyStore.execute("slot-upsert-batch", idempotencyKey, dto,
+                RecommendationBatchUpsertResponseDto.class, () -> recommendationSlotBatchService.upsertSlots(dto));
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "슬롯 배치 업서트 완료", data, request.getRequestURI()));
+    }
+
+    /**
+     * (내부) 후보 검색
+     * <p>
+     * 유저 벡터 기준 안 본 뉴스/퀴즈 top-K (JVM 내 HNSW 인덱스, 벡터 DB 왕복 없음)
+     */
+    @PostMapping("/candidates")
+    public ResponseEntity<ApiResponse<List<CandidateItemDto>>> searchCandidates(
+            HttpServletRequest request,
+            @Valid @RequestBody CandidateSearchRequestDto dto
+    ) {
+        var data = candidateIndexService.topKUnseen(dto.getUserId(), dto.getContentType(), dto.getVector(), dto.getK()).stream()
+                .map(result -> new CandidateItemDto(result.id(), result.score()))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "후보 검색 성공", data, request.getRequestURI()));
+    }
+
+    /**
+     * (내부) 최근 추천 이력 일괄 필터
+     * <p>
+     * 여러 유저의 뉴스 후보 중 최근 N일간 추천된 적 없는 것만 반환 (유저별 블룸 필터, 슬롯 테이블 스캔 없음)
+     */
+    @PostMapping("/news/unseen")
+    public ResponseEntity<ApiResponse<List<UnseenNewsDto>>> filterUnseenNews(
+            HttpServletRequest request,
+            @Valid @RequestBody UnseenNewsFilterRequestDto dto
+    ) {
+        Map<Long, List<Long>> candidates = new LinkedHashMap<>();
+        for (UnseenNewsFilterRequestDto.Entry entry : dto.getUsers()) {
+            candidates.computeIfAbsent(entry.getUserId(), k -> new ArrayList<>()).addAll(entry.getCandidateIds());
+        }
+
+        var data = recommendedNewsFilter.filterUnseen(candidates).entrySet().stream()
+                .map(e -> new UnseenNewsDto(e.getKey(), e.getValue()))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "추천 이력 필터 성공", data, request.getRequestURI()));
     }
 
     /**
@@ -100,4 +261,27 @@ class RecommendationController {
         var data = recommendationService.getNewsFeed(userId, page, size, sort, from, to);
         return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "개인화 뉴스 피드 조회 성공", data, request.getRequestURI()));
     }
+
+    /**
+     * 개인화 뉴스 피드 (커서 기반 무한 스크롤)
+     * <p>
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+     * - cursor는 발급 시의 sort와 함께 써야 한다 (다르면 400)
+     * - 전체 개수는 제공하지 않는다 (hasNext로 판단)
+     * - includeArchive=true면 아카이브로 옮겨진 오래된 슬롯까지 이어서 조회
+     */
+    @GetMapping("/feed/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<NewsFeedItemDto>>> getNewsFeedByCursor(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(name = "sort", defaultValue = "MIXED") FeedSort sort,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeArchive
+    ) {
+        Long userId = (Long) request.getAttribute("userId");
+        var data = recommendationService.getNewsFeedByCursor(userId, cursor, size, sort, from, to, includeArchive);
+        return ResponseEntity.ok(ApiResponse.of(HttpStatus.OK, "개인화 뉴스 피드 조회 성공", data, request.getRequestURI()));
+    }
 }
@@ -0,0 +1,7 @@
+package com.c102.picky.domain.recommendation.dto;
+
+public record CandidateItemDto(
+        Long contentId,
+        float score     // 코사인 유사도
+) {
+}
@@ -0,0 +1,26 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSearchRequestDto {
+    @NotNull
+    private Long userId;
+    @NotNull
+    private ContentType contentType;    // NEWS | QUIZ
+    @NotNull
+    private float[] vector;             // 유저 임베딩 (인덱스와 같은 차원)
+    @Min(1)
+    @Max(1000)
+    private int k = 500;
+}
@@ -0,0 +1,47 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 keyset 커서: 마지막 항목의 (slotAt, priority, id) + 정렬 모드
+ * 클라이언트에는 불투명한 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record FeedCursor(FeedSort sort, LocalDateTime slotAt, int priority, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static FeedCursor from(FeedSort sort, NewsFeedItemDto item) {
+        return new FeedCursor(sort, item.slotAt(), item.priority(), item.slotId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort.name(), slotAt.toString(), String.valueOf(priority), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 디코드 + 요청 정렬 모드와 일치하는지 검증 (다르면 VALIDATION_FAILED)
+     */
+    public static FeedCursor decode(String cursor, FeedSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            FeedCursor decoded = new FeedCursor(
+                    FeedSort.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+            if (decoded.sort() != expectedSort) throw new ApiException(ErrorCode.VALIDATION_FAILED);
+            return decoded;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ApiException(ErrorCode.VALIDATION_FAILED);
+        }
+    }
+}
@@ -1,7 +1,35 @@
 package com.c102.picky.domain.recommendation.dto;
 
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+
 public enum FeedSort {
     LATEST,      // slotAt DESC, id DESC
     PRIORITY,    // priority ASC, slotAt DESC, id DESC
-    MIXED        // slotAt DESC, priority ASC, id DESC (기본)
-}
\ No newline at end of file
+    MIXED;       // slotAt DESC, priority ASC, id DESC (기본)
+
+    /**
+     * 정렬 모드 -> Sort (오프셋 피드 / keyset 첫 페이지 ORDER BY)
+     */
+    public Sort sort() {
+        return switch (this) {
+            case LATEST -> Sort.by(Sort.Order.desc("slotAt"), Sort.Order.desc("id"));
+            case PRIORITY -> Sort.by(Sort.Order.asc("priority"), Sort.Order.desc("slotAt"), Sort.Order.desc("id"));
+            case MIXED -> Sort.by(Sort.Order.desc("slotAt"), Sort.Order.asc("priority"), Sort.Order.desc("id"));
+        };
+    }
+
+    /**
+     * 정렬 모드와 같은 순서의 비교자 (핫/아카이브 결과 병합용)
+     */
+    public Comparator<NewsFeedItemDto> comparator() {
+        Comparator<NewsFeedItemDto> slotAtDesc = Comparator.comparing(NewsFeedItemDto::slotAt, Comparator.reverseOrder());
+        Comparator<NewsFeedItemDto> idDesc = Comparator.comparing(NewsFeedItemDto::slotId, Comparator.reverseOrder());
+        return switch (this) {
+            case LATEST -> slotAtDesc.thenComparing(idDesc);
+            case PRIORITY -> Comparator.comparingInt(NewsFeedItemDto::priority).thenComparing(slotAtDesc).thenComparing(idDesc);
+            case MIXED -> slotAtDesc.thenComparingInt(NewsFeedItemDto::priority).thenComparing(idDesc);
+        };
+    }
+}
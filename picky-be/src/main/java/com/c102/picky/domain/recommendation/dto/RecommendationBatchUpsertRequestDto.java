@@ -0,0 +1,22 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationBatchUpsertRequestDto {
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid RecommendationUpsertRequestDto> items;
+}
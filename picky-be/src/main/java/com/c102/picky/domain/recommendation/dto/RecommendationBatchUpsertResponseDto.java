@@ -0,0 +1,36 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationBatchUpsertResponseDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results; // 요청 items와 같은 순서
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;              // 요청 items 내 위치
+        private Long userId;
+        private ContentType contentType;
+        private Long contentId;
+        private LocalDateTime slotAt;   // 배정된 슬롯 시간 (실패 시 null)
+        private boolean success;
+        private String errorCode;       // 실패 시 ErrorCode.code
+    }
+}
@@ -0,0 +1,23 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationUpsertResponseDto {
+
+    private Long slotId;
+    private Long userId;
+    private ContentType contentType;
+    private Long contentId;         // FACT는 업서트 시점에 바인딩된 factId
+    private LocalDateTime slotAt;
+    private int priority;
+}
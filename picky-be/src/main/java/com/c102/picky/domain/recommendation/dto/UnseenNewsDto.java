@@ -0,0 +1,9 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import java.util.List;
+
+public record UnseenNewsDto(
+        Long userId,
+        List<Long> unseenIds    // 최근 추천 이력에 없는 후보 (요청 순서 유지)
+) {
+}
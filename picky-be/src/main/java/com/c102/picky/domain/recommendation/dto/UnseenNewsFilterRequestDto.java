@@ -0,0 +1,35 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnseenNewsFilterRequestDto {
+
+    @NotEmpty
+    @Size(max = 2000)
+    private List<@Valid Entry> users;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @NotNull
+        private Long userId;
+        @NotNull
+        @Size(max = 1000)
+        private List<Long> candidateIds;
+    }
+}
@@ -4,10 +4,13 @@ import com.c102.picky.domain.recommendation.model.ContentType;
 import com.c102.picky.domain.recommendation.model.SlotStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
+// 상태는 SlotStateMachine의 조건부 UPDATE로 바꾸므로, 다른 필드 변경 flush가 status를 덮어쓰지 않게 바뀐 컬럼만 UPDATE
 @Entity
+@DynamicUpdate
 @Table(
         name = "user_recommendation_slots",
         uniqueConstraints = {
@@ -15,6 +18,11 @@ import java.time.LocalDateTime;
         },
         indexes = {
                 @Index(name = "idx_user_time", columnList = "user_id, slot_at"),
+                @Index(name = "idx_user_type_status_priority", columnList = "user_id, content_type, status, priority, id"),
+                @Index(name = "idx_user_type_priority_slot", columnList = "user_id, content_type, priority, slot_at DESC, id DESC"),
+                @Index(name = "idx_user_type_slot_priority", columnList = "user_id, content_type, slot_at DESC, priority, id DESC"),
+                @Index(name = "idx_user_type_status_attempted", columnList = "user_id, content_type, status, attempted, priority, slot_at"),
+                @Index(name = "idx_status_slot", columnList = "status, slot_at"),
                 @Index(name = "idx_news", columnList = "news_id"),
                 @Index(name = "idx_quiz", columnList = "quiz_id"),
                 @Index(name = "idx_fact", columnList = "fact_id")
@@ -63,6 +71,11 @@ public class UserRecommendationSlot {
     @Builder.Default
     private int priority = 5;
 
+    // 유저가 이 퀴즈를 풀어본 적 있는지 (QUIZ 슬롯 목록 정렬용, 정답 제출 시 갱신)
+    @Column(name = "attempted", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
+    @Builder.Default
+    private boolean attempted = false;
+
     @Lob
     @Column(name = "reason")
     private String reason;
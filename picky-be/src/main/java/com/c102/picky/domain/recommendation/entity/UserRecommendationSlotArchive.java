@@ -0,0 +1,75 @@
+package com.c102.picky.domain.recommendation.entity;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료 상태(DELIVERED/SEEN/DISMISSED/EXPIRED) 오래된 슬롯 보관 테이블
+ * - id는 원본 슬롯 id 그대로 (피드 커서가 핫/아카이브를 같은 키로 이어 읽을 수 있게)
+ * - 적재는 SlotArchiveJob이 JDBC로만 수행 (읽기 전용 엔티티)
+ */
+@Entity
+@Table(
+        name = "user_recommendation_slots_archive",
+        indexes = {
+                @Index(name = "idx_archive_user_type_slot", columnList = "user_id, content_type, slot_at, id"),
+                @Index(name = "idx_archive_user_type_priority_slot", columnList = "user_id, content_type, priority, slot_at DESC, id DESC"),
+                @Index(name = "idx_archive_user_type_slot_priority", columnList = "user_id, content_type, slot_at DESC, priority, id DESC"),
+                @Index(name = "idx_archive_archived_at", columnList = "archived_at")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRecommendationSlotArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 10)
+    private ContentType contentType;
+
+    @Column(name = "news_id")
+    private Long newsId;
+
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "fact_id")
+    private Long factId;
+
+    @Column(name = "slot_at", nullable = false)
+    private LocalDateTime slotAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 12)
+    private SlotStatus status;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "attempted", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
+    private boolean attempted;
+
+    @Lob
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,17 @@
+package com.c102.picky.domain.recommendation.event;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 슬롯의 slotAt이 도래했을 때 타이밍 휠이 발행하는 이벤트
+ * (slotId는 배치 업서트처럼 id를 모르는 경우 null)
+ */
+public record SlotDueEvent(
+        Long slotId,
+        Long userId,
+        ContentType contentType,
+        LocalDateTime slotAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.c102.picky.domain.recommendation.event;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 슬롯이 SCHEDULED 상태로 생성/갱신되었을 때 발행되는 이벤트
+ * (커밋 이후 큐/스케줄러 등 인메모리 구조를 갱신하는 용도, 배치 업서트는 slotId를 모르므로 null)
+ */
+public record SlotScheduledEvent(
+        Long slotId,
+        Long userId,
+        ContentType contentType,
+        LocalDateTime slotAt,
+        int priority
+) {
+}
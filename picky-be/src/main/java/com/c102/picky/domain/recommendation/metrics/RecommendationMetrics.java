@@ -0,0 +1,91 @@
+package com.c102.picky.domain.recommendation.metrics;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 추천 배달 경로 메트릭
+ * <p>
+ * - 태그는 타입/경로/결과 같은 고정 값만 (userId 등 사용자 단위 값은 넣지 않는다 → 카디널리티 제한)
+ * - 타이머는 퍼센타일 히스토그램 발행 (actuator /prometheus에서 p50/p95/p99 계산)
+ * <p>
+ * 메트릭:
+ * - recommendation.claim{source=queue|skip_locked, type}    슬롯 선점 시간
+ * - recommendation.slot.lock{query=for_update}             업서트의 FOR UPDATE 조회 시간 (락 대기 포함, 대기만 따로 분리하지는 않는다)
+ * - recommendation.hydration{type}                         페이로드 구성 시간
+ * - recommendation.slot.age{type}                          배달 시점 기준 slotAt 이후 경과 시간
+ * - recommendation.poll{type, outcome=delivered|empty|not_due|throttled|disabled}  빈 폴링 비율 = (전체 - delivered) / 전체
+ *   (not_due / throttled / disabled는 DeliveryPlanner가 DB 접근 없이 돌려보낸 폴링, 타입 지정 없는 요청은 type=ANY)
+ * - recommendation.poll.retry_after{outcome}                빈 응답에 준 재시도 힌트(초) 분포
+ * - recommendation.poll.avoided                             힌트 덕분에 줄어든 폴링 추정치 (고정 간격 폴링 대비: 힌트 / 간격 - 1)
+ * - recommendation.pushback{type}, recommendation.fact.rebind
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> retryAfterSummaries = new ConcurrentHashMap<>();
+
+    public <T> T timeClaim(String source, ContentType contentType, Supplier<T> claim) {
+        return timer("recommendation.claim", "source", source, "type", contentType.name()).record(claim);
+    }
+
+    public <T> T timeLockQuery(String query, Supplier<T> lockQuery) {
+        return timer("recommendation.slot.lock", "query", query).record(lockQuery);
+    }
+
+    public Timer.Sample startHydration() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopHydration(Timer.Sample sample, ContentType contentType) {
+        sample.stop(timer("recommendation.hydration", "type", contentType.name()));
+    }
+
+    public void slotAge(ContentType contentType, LocalDateTime slotAt) {
+        Duration age = Duration.between(slotAt, LocalDateTime.now());
+        if (!age.isNegative()) timer("recommendation.slot.age", "type", contentType.name()).record(age);
+    }
+
+    public void poll(ContentType contentType, String outcome) {
+        meterRegistry.counter("recommendation.poll", "type", contentType == null ? "ANY" : contentType.name(), "outcome", outcome).increment();
+    }
+
+    public void retryAfter(String outcome, long retryAfterSeconds, int notifyIntervalMinutes) {
+        retryAfterSummaries.computeIfAbsent(outcome, k -> DistributionSummary.builder("recommendation.poll.retry_after")
+                        .baseUnit("seconds")
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(retryAfterSeconds);
+        double avoided = (double) retryAfterSeconds / (Math.max(1, notifyIntervalMinutes) * 60L) - 1;
+        if (avoided > 0) meterRegistry.counter("recommendation.poll.avoided").increment(avoided);
+    }
+
+    public void pushBack(ContentType contentType) {
+        meterRegistry.counter("recommendation.pushback", "type", contentType.name()).increment();
+    }
+
+    public void factRebind() {
+        meterRegistry.counter("recommendation.fact.rebind").increment();
+    }
+
+    private Timer timer(String name, String... tags) {
+        return timers.computeIfAbsent(name + String.join(",", tags), k -> Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
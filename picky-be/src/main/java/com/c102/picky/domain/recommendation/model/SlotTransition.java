@@ -0,0 +1,54 @@
+package com.c102.picky.domain.recommendation.model;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 슬롯 상태 전이 (허용된 출발 상태 → 도착 상태)
+ * <p>
+ * - DELIVER : SCHEDULED → DELIVERED
+ * - OPEN    : DELIVERED (대기열 모드면 SCHEDULED도) → SEEN
+ * - DISMISS : DELIVERED (대기열 모드면 SCHEDULED도) → DISMISSED
+ * - RELEASE : DELIVERED → SCHEDULED (선점 커밋 후 SSE 푸시를 어느 연결도 받지 못했을 때)
+ * <p>
+ * 대기열 모드에서는 DELIVERED 반영이 비동기 write-back이라, ack가 먼저 도착해도 반영되도록 SCHEDULED에서의 OPEN/DISMISS를 허용한다.
+ * (대기열을 안 쓰면 DELIVERED가 선점과 같이 커밋되므로 아직 배달 안 된 슬롯의 ack는 거절)
+ */
+public enum SlotTransition {
+    DELIVER(SlotStatus.DELIVERED, Set.of(SlotStatus.SCHEDULED), Set.of()),
+    OPEN(SlotStatus.SEEN, Set.of(SlotStatus.DELIVERED), Set.of(SlotStatus.SCHEDULED)),
+    DISMISS(SlotStatus.DISMISSED, Set.of(SlotStatus.DELIVERED), Set.of(SlotStatus.SCHEDULED)),
+    RELEASE(SlotStatus.SCHEDULED, Set.of(SlotStatus.DELIVERED), Set.of());
+
+    private final SlotStatus target;
+    private final Set<SlotStatus> from;
+    private final Set<SlotStatus> fromWithReadyQueue;
+
+    SlotTransition(SlotStatus target, Set<SlotStatus> from, Set<SlotStatus> readyQueueOnly) {
+        this.target = target;
+        this.from = from;
+        this.fromWithReadyQueue = Stream.concat(from.stream(), readyQueueOnly.stream()).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public SlotStatus target() {
+        return target;
+    }
+
+    /**
+     * @param readyQueueEnabled 대기열 모드 여부 (SlotReadyQueue.isEnabled())
+     */
+    public Set<SlotStatus> from(boolean readyQueueEnabled) {
+        return readyQueueEnabled ? fromWithReadyQueue : from;
+    }
+
+    /**
+     * 도착 상태로 전이 찾기 (ack 버퍼의 SEEN / DISMISSED 등)
+     */
+    public static SlotTransition toward(SlotStatus target) {
+        for (SlotTransition transition : values()) {
+            if (transition.target == target) return transition;
+        }
+        throw new IllegalArgumentException("no transition toward " + target);
+    }
+}
@@ -0,0 +1,308 @@
+package com.c102.picky.domain.recommendation.planner;
+
+import com.c102.picky.domain.recommendation.event.SlotScheduledEvent;
+import com.c102.picky.domain.recommendation.metrics.RecommendationMetrics;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import com.c102.picky.domain.usersettings.dto.UserSettingsResponseDto;
+import com.c102.picky.domain.usersettings.event.UserSettingsChangedEvent;
+import com.c102.picky.domain.usersettings.service.UserSettingsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 인메모리 배달 계획
+ * <p>
+ * - 알림 설정(on-off, 타입 마스크, 간격) + 타입별 다음 SCHEDULED 슬롯 시간을 한 곳에 모아 "지금 배달할 게 있는가"에 답한다
+ * - /next는 꺼진 타입 / 아직 도래 전인 요청을 DB 접근 없이 돌려보낸다
+ * - 갱신: 슬롯 업서트(SlotScheduledEvent)는 다음 시간을 앞당기고, 배달/빈 응답 후에는 해당 타입만 다시 읽는다 (인덱스 seek 1번)
+ * - 설정 변경 시 UserSettingsChangedEvent로 제거, 다른 노드의 변경은 plan-ttl 안에 반영
+ * - 빈 응답에는 다음 도래까지 남은 시간을 재시도 힌트로 준다 (슬롯이 없으면 알림 간격)
+ * - 알림 간격 게이트: 마지막 배달 후 알림 간격(분)이 지나기 전에는 도래한 슬롯이 있어도 THROTTLED
+ *   (/next와 SSE 배달 모두 recordDelivered로 기록, 노드 간 공유는 Redis 키 rec:delivery-gate:{userId} TTL = 간격)
+ */
+@Component
+public class DeliveryPlanner {
+
+    // 타입 지정 없이 요청하면 이 순서로 비교 (도래 시각이 같을 때)
+    private static final List<ContentType> TYPE_ORDER = List.of(ContentType.NEWS, ContentType.QUIZ, ContentType.FACT);
+    private static final String GATE_PREFIX = "rec:delivery-gate:";
+
+    private final UserSettingsService userSettingsService;
+    private final UserRecommendationSlotRepository slotRepository;
+    private final RecommendationMetrics metrics;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<Long, Plan> plans;
+
+    // /next 배달 윈도우 (이전 lookback ~ 이후 lookahead 사이의 SCHEDULED 슬롯이 배달 대상)
+    @Value("${app.recommendation.due.lookback-days:2}")
+    private long lookbackDays;
+
+    @Value("${app.recommendation.planner.lookahead-hours:24}")
+    private long lookaheadHours;
+
+    @Value("${app.recommendation.planner.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.recommendation.retry-after.min-seconds:30}")
+    private long minRetryAfterSeconds;
+
+    @Value("${app.recommendation.retry-after.max-seconds:3600}")
+    private long maxRetryAfterSeconds;
+
+    public DeliveryPlanner(UserSettingsService userSettingsService,
+                           UserRecommendationSlotRepository slotRepository,
+                           RecommendationMetrics metrics,
+                           RedisTemplate<String, Object> redisTemplate,
+                           @Value("${app.recommendation.planner.max-users:100000}") int maxUsers) {
+        this.userSettingsService = userSettingsService;
+        this.slotRepository = slotRepository;
+        this.metrics = metrics;
+        this.redisTemplate = redisTemplate;
+        this.plans = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Plan> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public LocalDateTime windowStart(LocalDateTime now) {
+        return now.minusDays(lookbackDays);
+    }
+
+    public LocalDateTime windowEnd(LocalDateTime now) {
+        return now.plusHours(lookaheadHours);
+    }
+
+    /**
+     * 지금 배달할 타입 결정 (도래했어도 알림 간격 안이면 THROTTLED)
+     *
+     * @param contentType null이면 켜진 타입 중 가장 먼저 도래한 것
+     */
+    public Decision decide(Long userId, ContentType contentType, LocalDateTime now) {
+        Decision decision = gate(userId, evaluate(userId, contentType, now, windowEnd(now)), now);
+        if (!decision.isDeliverable()) {
+            metrics.poll(contentType, decision.outcome().name().toLowerCase());
+        }
+        return decision;
+    }
+
+    /**
+     * SSE 푸시용 결정: 선점 윈도우가 now까지라 slotAt <= now인 슬롯만 도래로 본다 (폴링이 아니므로 폴링 메트릭도 남기지 않는다)
+     */
+    public Decision decideForPush(Long userId, ContentType contentType, LocalDateTime now) {
+        return gate(userId, evaluate(userId, contentType, now, now), now);
+    }
+
+    /**
+     * 배달 성공 후: 알림 간격 동안 다음 배달을 막는다
+     */
+    public void recordDelivered(Long userId, LocalDateTime now) {
+        Plan plan = plan(userId, now);
+        if (plan.interval <= 0) return;
+        plan.closeGateUntil(now.plusMinutes(plan.interval));
+        redisTemplate.opsForValue().set(GATE_PREFIX + userId, now.toString(), Duration.ofMinutes(plan.interval));
+    }
+
+    /**
+     * 빈 응답용 재시도 힌트(초)
+     * - 도래 전: 다음 슬롯이 배달 윈도우에 들어올 때까지 (슬롯이 없으면 알림 간격)
+     * - 도래했지만 전달 실패(콘텐츠 삭제 등): 최소값
+     * - 꺼짐: 최대값
+     */
+    public long retryAfterSeconds(Decision decision, LocalDateTime now) {
+        long seconds = switch (decision.outcome()) {
+            case DELIVERABLE -> minRetryAfterSeconds;
+            case THROTTLED -> Duration.between(now, decision.nextDueAt()).getSeconds();
+            case NOT_DUE -> decision.nextDueAt() != null
+                    ? Duration.between(now, decision.nextDueAt().minusHours(lookaheadHours)).getSeconds()
+                    : decision.notifyInterval() * 60L;
+            case DISABLED -> maxRetryAfterSeconds;
+        };
+        long retryAfter = Math.max(minRetryAfterSeconds, Math.min(maxRetryAfterSeconds, seconds));
+        metrics.retryAfter(decision.outcome().name().toLowerCase(), retryAfter, decision.notifyInterval());
+        return retryAfter;
+    }
+
+    /**
+     * 선점 결과가 비었을 때: 갱신된 계획으로 다시 판단해 힌트 계산 (폴링 메트릭은 이미 기록됨)
+     */
+    public long retryAfterSeconds(Long userId, ContentType contentType, LocalDateTime now) {
+        return retryAfterSeconds(gate(userId, evaluate(userId, contentType, now, windowEnd(now)), now), now);
+    }
+
+    // 도래한 결정만 게이트 확인: 이 노드가 아는 게이트 → 없으면 Redis TTL (다른 노드의 배달)
+    private Decision gate(Long userId, Decision decision, LocalDateTime now) {
+        if (!decision.isDeliverable() || decision.notifyInterval() <= 0) return decision;
+
+        Plan plan = plan(userId, now);
+        LocalDateTime openAt = plan.gateOpenAt();
+        if (openAt == null || !openAt.isAfter(now)) {
+            Long ttlMillis = redisTemplate.getExpire(GATE_PREFIX + userId, TimeUnit.MILLISECONDS);
+            if (ttlMillis == null || ttlMillis <= 0) return decision;
+            openAt = now.plus(Duration.ofMillis(ttlMillis));
+            plan.closeGateUntil(openAt);
+        }
+        return new Decision(decision.contentType(), Outcome.THROTTLED, openAt, decision.notifyInterval());
+    }
+
+    // dueBy까지의 슬롯이 도래 (/next는 lookahead 포함 윈도우 끝, SSE 푸시는 now)
+    private Decision evaluate(Long userId, ContentType contentType, LocalDateTime now, LocalDateTime dueBy) {
+        Plan plan = plan(userId, now);
+
+        List<ContentType> types = contentType != null ? List.of(contentType) : TYPE_ORDER;
+        ContentType dueType = null;
+        LocalDateTime dueAt = null;
+        LocalDateTime nextAt = null;
+        boolean anyEnabled = false;
+
+        for (ContentType type : types) {
+            if (!plan.isEnabled(type)) continue;
+            anyEnabled = true;
+
+            LocalDateTime next = nextDueAt(plan, userId, type, now);
+            if (next == null) continue;
+            if (!next.isAfter(dueBy)) {
+                if (dueAt == null || next.isBefore(dueAt)) {
+                    dueType = type;
+                    dueAt = next;
+                }
+            } else if (nextAt == null || next.isBefore(nextAt)) {
+                nextAt = next;
+            }
+        }
+
+        if (dueType != null) return new Decision(dueType, Outcome.DELIVERABLE, dueAt, plan.interval);
+
+        return new Decision(contentType, anyEnabled ? Outcome.NOT_DUE : Outcome.DISABLED, nextAt, plan.interval);
+    }
+
+    public boolean isEnabled(Long userId, ContentType contentType) {
+        return plan(userId, LocalDateTime.now()).isEnabled(contentType);
+    }
+
+    public int notifyInterval(Long userId) {
+        return plan(userId, LocalDateTime.now()).interval;
+    }
+
+    /**
+     * 배달 성공 / 빈 응답 후: 해당 타입의 다음 슬롯 시간은 다음 판단 때 다시 읽는다
+     */
+    public void invalidate(Long userId, ContentType contentType) {
+        Plan plan = plans.get(userId);
+        if (plan != null) plan.forget(contentType);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotScheduled(SlotScheduledEvent event) {
+        Plan plan = plans.get(event.userId());
+        if (plan != null) plan.advanceTo(event.contentType(), event.slotAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettingsChanged(UserSettingsChangedEvent event) {
+        plans.remove(event.userId());
+    }
+
+    private Plan plan(Long userId, LocalDateTime now) {
+        Plan plan = plans.get(userId);
+        if (plan != null && plan.loadedAt.plusSeconds(ttlSeconds).isAfter(now)) return plan;
+
+        UserSettingsResponseDto settings = userSettingsService.findByUserId(userId);
+        plan = new Plan(settings.isNotifyEnabled(), settings.isNewsEnabled(), settings.isQuizEnabled(),
+                settings.isFactEnabled(), settings.getNotifyInterval(), now);
+        plans.put(userId, plan);
+        return plan;
+    }
+
+    // 모르면(처음 / 배달 후 / 윈도우 밖으로 밀려남) 가장 이른 SCHEDULED 슬롯 1건만 읽는다 (uq_user_slot_type 순서)
+    private LocalDateTime nextDueAt(Plan plan, Long userId, ContentType type, LocalDateTime now) {
+        Optional<LocalDateTime> known = plan.nextDueAt(type);
+        if (known != null && known.map(at -> !at.isBefore(windowStart(now))).orElse(true)) {
+            return known.orElse(null);
+        }
+
+        Optional<LocalDateTime> loaded = slotRepository.findNextSlotTimes(userId, type, SlotStatus.SCHEDULED,
+                windowStart(now), PageRequest.of(0, 1)).stream().findFirst();
+        plan.load(type, loaded);
+        return loaded.orElse(null);
+    }
+
+    public enum Outcome {
+        DELIVERABLE,    // 윈도우 안에 SCHEDULED 슬롯 있음 → DB 선점 진행
+        THROTTLED,      // 도래했지만 마지막 배달 후 알림 간격이 안 지남
+        NOT_DUE,        // 켜져 있지만 아직 도래한 슬롯 없음
+        DISABLED        // 알림 꺼짐 / 타입 꺼짐
+    }
+
+    /**
+     * @param nextDueAt DELIVERABLE이면 배달할 슬롯 시간, NOT_DUE면 윈도우 밖 다음 슬롯 시간 (없으면 null),
+     *                  THROTTLED면 알림 간격이 끝나는 시각
+     */
+    public record Decision(ContentType contentType, Outcome outcome, LocalDateTime nextDueAt, int notifyInterval) {
+        public boolean isDeliverable() {
+            return outcome == Outcome.DELIVERABLE;
+        }
+    }
+
+    private static final class Plan {
+        private final boolean notifyEnabled;
+        private final Set<ContentType> enabledTypes = EnumSet.noneOf(ContentType.class);
+        private final int interval;
+        private final LocalDateTime loadedAt;
+
+        // 키 없음 = 모름, Optional.empty() = SCHEDULED 슬롯 없음
+        private final Map<ContentType, Optional<LocalDateTime>> nextDue = new EnumMap<>(ContentType.class);
+        private LocalDateTime gateOpenAt;
+
+        private Plan(boolean notifyEnabled, boolean news, boolean quiz, boolean fact, int interval, LocalDateTime loadedAt) {
+            this.notifyEnabled = notifyEnabled;
+            if (news) enabledTypes.add(ContentType.NEWS);
+            if (quiz) enabledTypes.add(ContentType.QUIZ);
+            if (fact) enabledTypes.add(ContentType.FACT);
+            this.interval = interval;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isEnabled(ContentType type) {
+            return notifyEnabled && enabledTypes.contains(type);
+        }
+
+        synchronized Optional<LocalDateTime> nextDueAt(ContentType type) {
+            return nextDue.get(type);
+        }
+
+        synchronized void load(ContentType type, Optional<LocalDateTime> slotAt) {
+            nextDue.put(type, slotAt);
+        }
+
+        synchronized void forget(ContentType type) {
+            nextDue.remove(type);
+        }
+
+        synchronized LocalDateTime gateOpenAt() {
+            return gateOpenAt;
+        }
+
+        synchronized void closeGateUntil(LocalDateTime openAt) {
+            if (gateOpenAt == null || openAt.isAfter(gateOpenAt)) gateOpenAt = openAt;
+        }
+
+        // 새 슬롯이 기존 다음 시간보다 이르면 앞당긴다 (모르는 상태면 그대로 둔다)
+        synchronized void advanceTo(ContentType type, LocalDateTime slotAt) {
+            Optional<LocalDateTime> current = nextDue.get(type);
+            if (current == null) return;
+            if (current.isEmpty() || slotAt.isBefore(current.get())) nextDue.put(type, Optional.of(slotAt));
+        }
+    }
+}
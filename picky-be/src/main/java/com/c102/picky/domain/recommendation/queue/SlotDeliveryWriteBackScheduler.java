@@ -0,0 +1,59 @@
+package com.c102.picky.domain.recommendation.queue;
+
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.queue.SlotReadyQueue.PendingEntry;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 대기열에서 선점된 슬롯의 DELIVERED 상태를 MySQL에 비동기로 반영한다.
+ * pending 리스트(커밋된 선점만 적재됨)에서 배치 단위로 꺼내 한 번의 UPDATE로 처리하며, 실패 시 다시 리스트에 되돌린다.
+ * 반영이 끝난 슬롯은 큐의 inflight에서 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotDeliveryWriteBackScheduler {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserRecommendationSlotRepository slotRepository;
+    private final SlotReadyQueue slotReadyQueue;
+
+    @Value("${app.recommendation.ready-queue.write-back-batch:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.recommendation.ready-queue.write-back-interval-ms:1000}")
+    public void flush() {
+        List<Object> popped = redisTemplate.opsForList().leftPop(SlotReadyQueue.PENDING_DELIVERED_KEY, batchSize);
+        if (popped == null || popped.isEmpty()) return;
+
+        List<PendingEntry> entries = popped.stream().map(PendingEntry::parse).toList();
+        List<Long> slotIds = entries.stream().map(PendingEntry::slotId).toList();
+        try {
+            int updated = slotRepository.markDelivered(slotIds);
+            log.debug("delivered write-back slots={}, updatedRows={}", slotIds.size(), updated);
+        } catch (RuntimeException e) {
+            log.warn("delivered write-back failed, re-queue {} slots", slotIds.size(), e);
+            redisTemplate.opsForList().rightPushAll(SlotReadyQueue.PENDING_DELIVERED_KEY, popped.toArray());
+            throw e;
+        }
+
+        // 커밋된 뒤 inflight 정리 (큐별로 1번)
+        Map<QueueKey, List<Long>> byQueue = new HashMap<>();
+        for (PendingEntry entry : entries) {
+            if (entry.userId() == null) continue;
+            byQueue.computeIfAbsent(new QueueKey(entry.userId(), entry.contentType()), k -> new ArrayList<>()).add(entry.slotId());
+        }
+        byQueue.forEach((queue, ids) -> slotReadyQueue.completeDelivered(queue.userId(), queue.contentType(), ids));
+    }
+
+    private record QueueKey(Long userId, ContentType contentType) {
+    }
+}
@@ -0,0 +1,378 @@
+package com.c102.picky.domain.recommendation.queue;
+
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.event.SlotScheduledEvent;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 유저별 배달 대기열 (Redis Sorted Set)
+ * <p>
+ * - key  : rec:ready:{userId}:{contentType}
+ * - member : slotId
+ * - score  : priority * 1e10 + slotAt(epoch seconds) → priority ASC, slotAt ASC 순으로 정렬
+ * <p>
+ * MySQL이 원본이며, 큐는 "loaded" 마커가 없거나 요청 윈도우를 덮지 못하면 MySQL에서 다시 채운다.
+ * <p>
+ * 선점 흐름:
+ * 1) claim: Lua 스크립트로 ready에서 ZREM + inflight(rec:ready:...:inflight, score = 선점 시각)에 적재
+ * 2) 호출 측 트랜잭션 커밋 후: pending 리스트 적재 → {@link SlotDeliveryWriteBackScheduler}가 DELIVERED 반영 후 inflight에서 제거
+ *    (writeBack=false 선점은 호출 측이 DELIVERED를 직접 반영했으므로 inflight에서만 제거)
+ * 3) 롤백 / release: inflight에서 빼고 ready로 되돌린다
+ * <p>
+ * inflight는 rebuild가 DB에 아직 SCHEDULED로 남은 선점 슬롯을 다시 싣지 않게 막는다.
+ * (선점 후 프로세스가 죽어 남은 항목은 inflight-ttl-seconds가 지나면 rebuild에서 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotReadyQueue {
+
+    private static final String QUEUE_PREFIX = "rec:ready:";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final String INFLIGHT_SUFFIX = ":inflight";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    static final String PENDING_DELIVERED_KEY = "rec:delivered:pending";
+
+    private static final long PRIORITY_WEIGHT = 10_000_000_000L;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * 우선순위 구간마다 ZRANGEBYSCORE로 윈도우 [ARGV[1], ARGV[2]] 안의 첫 멤버를 찾는다.
+     * (우선순위가 작은 구간부터 → 첫 히트가 priority ASC, slotAt ASC 기준 최선)
+     * 윈도우 밖 멤버가 아무리 많아도 건너뛰지 않으며, 반복 횟수는 큐의 우선순위 폭만큼이다.
+     *
+     * @return {slotId, score} 또는 nil
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local head = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            if #head == 0 then return false end
+            local tail = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+            local weight = tonumber(ARGV[4])
+            local lo = math.floor(tonumber(head[2]) / weight)
+            local hi = math.floor(tonumber(tail[2]) / weight)
+            for p = lo, hi do
+              local base = p * weight
+              local hit = redis.call('ZRANGEBYSCORE', KEYS[1],
+                  string.format('%.0f', base + tonumber(ARGV[1])), string.format('%.0f', base + tonumber(ARGV[2])),
+                  'WITHSCORES', 'LIMIT', 0, 1)
+              if #hit > 0 then
+                redis.call('ZREM', KEYS[1], hit[1])
+                redis.call('ZADD', KEYS[2], ARGV[3], hit[1])
+                return hit
+              end
+            end
+            return false
+            """, List.class);
+
+    /**
+     * 선점 취소: inflight에서 빼고 ready로 되돌린다
+     */
+    private static final DefaultRedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 임시 키에 채운 큐를 원자적으로 교체 (RENAME)
+     * - 오래된 inflight 정리 후, 남은 inflight 멤버는 새 큐에서 제외
+     * - 새 큐가 비었으면 기존 큐 삭제
+     * - loaded 마커(적재한 윈도우) 갱신
+     */
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[1])
+            local inflight = redis.call('ZRANGE', KEYS[3], 0, -1)
+            for i = 1, #inflight do
+              redis.call('ZREM', KEYS[1], inflight[i])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('RENAME', KEYS[1], KEYS[2])
+              redis.call('PERSIST', KEYS[2])
+            else
+              redis.call('DEL', KEYS[2])
+            end
+            redis.call('SET', KEYS[4], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserRecommendationSlotRepository slotRepository;
+
+    @Value("${app.recommendation.ready-queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.recommendation.ready-queue.loaded-ttl-minutes:10}")
+    private long loadedTtlMinutes;
+
+    @Value("${app.recommendation.ready-queue.rebuild-limit:1000}")
+    private int rebuildLimit;
+
+    @Value("${app.recommendation.ready-queue.inflight-ttl-seconds:300}")
+    private long inflightTtlSeconds;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 윈도우 안의 슬롯 1건을 선점한다. 큐가 이 윈도우로 로드되지 않았으면 MySQL에서 먼저 채운다.
+     * 트랜잭션 안에서 호출하면 pending 적재는 커밋 후, 롤백 시에는 ready로 되돌린다.
+     *
+     * @return 선점한 slotId (없으면 empty)
+     */
+    public Optional<Long> claim(Long userId, ContentType contentType, LocalDateTime start, LocalDateTime end) {
+        return claim(userId, contentType, start, end, true);
+    }
+
+    /**
+     * @param writeBack false면 DELIVERED는 호출 측이 같은 트랜잭션에서 직접 반영한다
+     *                  (커밋 후 되돌릴 수 있는 SSE 푸시용: 늦게 도는 write-back이 되돌린 슬롯을 다시 DELIVERED로 만들지 않게)
+     */
+    public Optional<Long> claim(Long userId, ContentType contentType, LocalDateTime start, LocalDateTime end, boolean writeBack) {
+        long from = toEpoch(start);
+        long to = toEpoch(end);
+        Loaded loaded = Loaded.parse(redisTemplate.opsForValue().get(loadedKey(userId, contentType)));
+        if (loaded == null || !loaded.covers(from, to)) {
+            loaded = rebuild(userId, contentType, start, end);
+        }
+
+        List<?> hit = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(queueKey(userId, contentType), inflightKey(userId, contentType)),
+                String.valueOf(from), String.valueOf(to), String.valueOf(System.currentTimeMillis()), String.valueOf(PRIORITY_WEIGHT)
+        );
+        if (hit == null || hit.isEmpty()) {
+            // 적재 한도에 걸렸던 큐가 바닥나면 다음 claim에서 나머지를 다시 싣는다
+            if (loaded.truncated()) invalidate(userId, contentType);
+            return Optional.empty();
+        }
+
+        Claim claim = new Claim(userId, contentType, Long.valueOf(String.valueOf(hit.get(0))),
+                Double.parseDouble(String.valueOf(hit.get(1))), writeBack);
+        Claims claims = currentClaims();
+        if (claims != null) {
+            claims.byId.put(claim.slotId(), claim);
+        } else {
+            complete(claim);
+        }
+        return Optional.of(claim.slotId());
+    }
+
+    /**
+     * 선점했지만 배달하지 않은 슬롯을 새 우선순위로 되돌린다 (트랜잭션 안이면 커밋 후)
+     */
+    public void release(UserRecommendationSlot slot) {
+        double score = score(slot.getPriority(), slot.getSlotAt());
+        Claims claims = currentClaims();
+        Claim claim = claims == null ? null : claims.byId.get(slot.getId());
+        if (claim != null) {
+            claims.released.put(slot.getId(), score);
+        } else {
+            requeue(new Claim(slot.getUserId(), slot.getContentType(), slot.getId(), score, false), score);
+        }
+    }
+
+    /**
+     * 다음 claim 시 MySQL에서 다시 채우도록 마커를 지운다 (배치 업서트 등 slotId를 모를 때)
+     */
+    public void invalidate(Long userId, ContentType contentType) {
+        if (!enabled) return;
+        redisTemplate.delete(loadedKey(userId, contentType));
+    }
+
+    /**
+     * MySQL의 SCHEDULED 슬롯으로 큐를 다시 채운다.
+     * <p>
+     * - 적재 범위: [start, end + loaded-ttl] (마커가 살아 있는 동안 윈도우가 밀려도 빠지는 슬롯이 없게), 최대 rebuild-limit건
+     * - 임시 키에 채운 뒤 RENAME으로 교체 → 동시에 claim해도 비었거나 일부만 찬 큐를 보지 않는다
+     * - 선점 중(inflight)인 슬롯은 교체 시점에 제외
+     */
+    public Loaded rebuild(Long userId, ContentType contentType, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime until = end.plusMinutes(loadedTtlMinutes);
+        List<Object[]> rows = slotRepository.findReadyQueueEntries(userId, contentType, start, until,
+                PageRequest.of(0, rebuildLimit));
+
+        String tmpKey = queueKey(userId, contentType) + REBUILD_SUFFIX + UUID.randomUUID();
+        if (!rows.isEmpty()) {
+            Set<TypedTuple<Object>> tuples = new HashSet<>(rows.size());
+            for (Object[] row : rows) {
+                tuples.add(new DefaultTypedTuple<>(String.valueOf(row[0]), score((Integer) row[1], (LocalDateTime) row[2])));
+            }
+            redisTemplate.opsForZSet().add(tmpKey, tuples);
+            redisTemplate.expire(tmpKey, Duration.ofMinutes(1));    // 교체 전에 죽으면 정리되도록
+        }
+
+        Loaded loaded = new Loaded(toEpoch(start), toEpoch(until), rows.size() >= rebuildLimit);
+        redisTemplate.execute(
+                SWAP_SCRIPT,
+                List.of(tmpKey, queueKey(userId, contentType), inflightKey(userId, contentType), loadedKey(userId, contentType)),
+                String.valueOf(System.currentTimeMillis() - inflightTtlSeconds * 1000),
+                loaded.format(),
+                String.valueOf(Duration.ofMinutes(loadedTtlMinutes).toSeconds())
+        );
+        log.debug("ready queue rebuilt userId={}, type={}, size={}, truncated={}", userId, contentType, rows.size(), loaded.truncated());
+        return loaded;
+    }
+
+    /**
+     * 업서트 커밋 이후 큐에 반영. 아직 로드되지 않은 큐는 다음 claim 때 통째로 채워지므로 건너뛴다.
+     */
+    @TransactionalEventListener
+    public void onSlotScheduled(SlotScheduledEvent event) {
+        if (!enabled || event.slotId() == null) return;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey(event.userId(), event.contentType())))) return;
+        redisTemplate.opsForZSet().add(queueKey(event.userId(), event.contentType()),
+                String.valueOf(event.slotId()), score(event.priority(), event.slotAt()));
+    }
+
+    /**
+     * write-back이 DELIVERED를 반영한 뒤 inflight에서 제거
+     */
+    void completeDelivered(Long userId, ContentType contentType, Collection<Long> slotIds) {
+        redisTemplate.opsForZSet().remove(inflightKey(userId, contentType),
+                slotIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 커밋된 선점: write-back 대상이면 pending으로, 호출 측이 이미 반영했으면 inflight에서만 뺀다
+    private void complete(Claim claim) {
+        if (claim.writeBack()) {
+            redisTemplate.opsForList().rightPush(PENDING_DELIVERED_KEY, PendingEntry.format(claim));
+        } else {
+            completeDelivered(claim.userId(), claim.contentType(), List.of(claim.slotId()));
+        }
+    }
+
+    private void requeue(Claim claim, double score) {
+        redisTemplate.execute(
+                REQUEUE_SCRIPT,
+                List.of(queueKey(claim.userId(), claim.contentType()), inflightKey(claim.userId(), claim.contentType())),
+                String.valueOf(claim.slotId()), String.valueOf(score)
+        );
+    }
+
+    private Claims currentClaims() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        Claims claims = (Claims) TransactionSynchronizationManager.getResource(this);
+        if (claims == null) {
+            claims = new Claims();
+            TransactionSynchronizationManager.bindResource(this, claims);
+            TransactionSynchronizationManager.registerSynchronization(claims);
+        }
+        return claims;
+    }
+
+    private static String queueKey(Long userId, ContentType contentType) {
+        return QUEUE_PREFIX + userId + ":" + contentType.name();
+    }
+
+    private static String loadedKey(Long userId, ContentType contentType) {
+        return queueKey(userId, contentType) + LOADED_SUFFIX;
+    }
+
+    private static String inflightKey(Long userId, ContentType contentType) {
+        return queueKey(userId, contentType) + INFLIGHT_SUFFIX;
+    }
+
+    private static double score(int priority, LocalDateTime slotAt) {
+        return (double) priority * PRIORITY_WEIGHT + toEpoch(slotAt);
+    }
+
+    private static long toEpoch(LocalDateTime time) {
+        return time.atZone(ZONE).toEpochSecond();
+    }
+
+    /**
+     * 트랜잭션 하나에서 선점한 슬롯들: 커밋되면 pending(또는 release된 것은 ready), 아니면 ready로 되돌린다
+     */
+    private final class Claims implements TransactionSynchronization {
+
+        private final Map<Long, Claim> byId = new LinkedHashMap<>();
+        private final Map<Long, Double> released = new HashMap<>();
+
+        @Override
+        public void afterCommit() {
+            for (Claim claim : byId.values()) {
+                try {
+                    Double score = released.get(claim.slotId());
+                    if (score != null) requeue(claim, score);
+                    else complete(claim);
+                } catch (RuntimeException e) {
+                    // inflight에 남은 항목은 inflight-ttl 이후 rebuild에서 정리된다
+                    log.warn("ready queue after-commit failed slotId={}", claim.slotId(), e);
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SlotReadyQueue.this);
+            if (status == STATUS_COMMITTED) return;
+            for (Claim claim : byId.values()) {
+                try {
+                    requeue(claim, claim.score());
+                } catch (RuntimeException e) {
+                    log.warn("ready queue rollback requeue failed slotId={}", claim.slotId(), e);
+                }
+            }
+        }
+    }
+
+    private record Claim(Long userId, ContentType contentType, Long slotId, double score, boolean writeBack) {
+    }
+
+    /**
+     * loaded 마커 값: 적재한 윈도우(epoch seconds)와 적재 한도 도달 여부
+     */
+    record Loaded(long from, long to, boolean truncated) {
+
+        boolean covers(long start, long end) {
+            return from <= start && end <= to;
+        }
+
+        String format() {
+            return from + ":" + to + ":" + (truncated ? 1 : 0);
+        }
+
+        static Loaded parse(Object value) {
+            if (value == null) return null;
+            String[] parts = String.valueOf(value).split(":");
+            if (parts.length != 3) return null;     // 이전 형식("1") → 다시 적재
+            return new Loaded(Long.parseLong(parts[0]), Long.parseLong(parts[1]), "1".equals(parts[2]));
+        }
+    }
+
+    /**
+     * pending 리스트 항목: userId:contentType:slotId (write-back이 inflight를 정리할 수 있게)
+     */
+    record PendingEntry(Long userId, ContentType contentType, Long slotId) {
+
+        static String format(Claim claim) {
+            return claim.userId() + ":" + claim.contentType().name() + ":" + claim.slotId();
+        }
+
+        static PendingEntry parse(Object value) {
+            String[] parts = String.valueOf(value).split(":");
+            if (parts.length == 1) return new PendingEntry(null, null, Long.valueOf(parts[0]));     // 이전 형식(slotId만)
+            return new PendingEntry(Long.valueOf(parts[0]), ContentType.valueOf(parts[1]), Long.valueOf(parts[2]));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.c102.picky.domain.recommendation.repository;
+
+import com.c102.picky.domain.recommendation.dto.NewsFeedItemDto;
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlotArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserRecommendationSlotArchiveRepository extends JpaRepository<UserRecommendationSlotArchive, Long> {
+
+    /*
+     * 아카이브 뉴스 피드 keyset(seek) 조회 - 핫 테이블(UserRecommendationSlotRepository)과 같은 정렬/커서 조건
+     * 피드 read-through 시 두 결과를 정렬 기준으로 병합한다
+     */
+    // 첫 페이지: 커서 조건 없음, ORDER BY는 pageable Sort(FeedSort.sort())
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlotArchive s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+            """)
+    List<NewsFeedItemDto> findNewsFeedFirst(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // LATEST: slotAt DESC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlotArchive s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.slotAt <= :cursorSlotAt
+              and (s.slotAt < :cursorSlotAt or s.id < :cursorId)
+            order by s.slotAt desc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedLatestAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // PRIORITY: priority ASC, slotAt DESC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlotArchive s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.priority >= :cursorPriority
+              and (s.priority > :cursorPriority
+                   or s.slotAt < :cursorSlotAt
+                   or (s.slotAt = :cursorSlotAt and s.id < :cursorId))
+            order by s.priority asc, s.slotAt desc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedPriorityAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorPriority") Integer cursorPriority,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // MIXED: slotAt DESC, priority ASC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlotArchive s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.slotAt <= :cursorSlotAt
+              and (s.slotAt < :cursorSlotAt
+                   or s.priority > :cursorPriority
+                   or (s.priority = :cursorPriority and s.id < :cursorId))
+            order by s.slotAt desc, s.priority asc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedMixedAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorPriority") Integer cursorPriority,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+}
@@ -2,6 +2,7 @@ package com.c102.picky.domain.recommendation.repository;
 
 import com.c102.picky.domain.recommendation.dto.NewsFeedItemDto;
 import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.event.SlotDueEvent;
 import com.c102.picky.domain.recommendation.model.ContentType;
 import com.c102.picky.domain.recommendation.model.SlotStatus;
 import jakarta.persistence.LockModeType;
@@ -12,8 +13,10 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,10 +40,81 @@ public interface UserRecommendationSlotRepository extends JpaRepository<UserReco
             Pageable pageable
     );
 
+    /**
+     * 배달용 슬롯 선점 (FOR UPDATE SKIP LOCKED)
+     * <p>
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰므로, 같은 유저가 여러 탭/기기에서 동시에 폴링해도
+     * 서로 대기하지 않고 각자 다른 슬롯을 가져가거나 즉시 빈 결과를 받는다.
+     */
+    @Query(value = """
+            SELECT * FROM user_recommendation_slots s
+            WHERE s.user_id = :userId
+                AND s.content_type = :contentType
+                AND s.status = 'SCHEDULED'
+                AND s.slot_at BETWEEN :start AND :end
+            ORDER BY s.priority ASC, s.id ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UserRecommendationSlot> claimForDeliverySkipLocked(
+            @Param("userId") Long userId,
+            @Param("contentType") String contentType,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("limit") int limit
+    );
+
     Optional<UserRecommendationSlot> findByIdAndUserId(Long id, Long userId);
 
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    // 상태 전이가 반영되지 않은 슬롯 중 유저 소유인 것 (없는 슬롯 / 허용되지 않은 전이 구분용)
+    @Query("select s.id from UserRecommendationSlot s where s.userId = :userId and s.id in :slotIds")
+    List<Long> findOwnedIds(@Param("userId") Long userId, @Param("slotIds") Collection<Long> slotIds);
+
+    // 대기열 적재용: 윈도우 안 SCHEDULED 슬롯의 (id, priority, slotAt)을 우선순위 순으로 (idx_user_type_status_priority)
+    @Query("""
+            select s.id, s.priority, s.slotAt
+            from UserRecommendationSlot s
+            where s.userId = :userId
+              and s.contentType = :contentType
+              and s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+              and s.slotAt between :start and :end
+            order by s.priority asc, s.slotAt asc, s.id asc
+            """)
+    List<Object[]> findReadyQueueEntries(@Param("userId") Long userId,
+                                         @Param("contentType") ContentType contentType,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end,
+                                         Pageable pageable);
+
+    // 타이밍 휠 초기 적재용: since 이후의 SCHEDULED 슬롯
+    @Query("""
+            select new com.c102.picky.domain.recommendation.event.SlotDueEvent(s.id, s.userId, s.contentType, s.slotAt)
+            from UserRecommendationSlot s
+            where s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+              and s.slotAt >= :since
+            """)
+    List<SlotDueEvent> findScheduledDueEvents(@Param("since") LocalDateTime since);
+
     Optional<UserRecommendationSlot> findTopByUserIdAndContentTypeOrderBySlotAtDesc(Long userId, ContentType contentType);
 
+    // (userId, contentType)의 since 이후 가장 이른 슬롯 시간 - DeliveryPlanner용 (uq_user_slot_type 순서로 seek, Pageable로 1건)
+    @Query("""
+            select s.slotAt
+            from UserRecommendationSlot s
+            where s.userId = :userId
+              and s.contentType = :contentType
+              and s.status = :status
+              and s.slotAt >= :since
+            order by s.slotAt asc
+            """)
+    List<LocalDateTime> findNextSlotTimes(@Param("userId") Long userId,
+                                          @Param("contentType") ContentType contentType,
+                                          @Param("status") com.c102.picky.domain.recommendation.model.SlotStatus status,
+                                          @Param("since") LocalDateTime since,
+                                          Pageable pageable);
+
     @Query(value = """
             select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
               s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
@@ -71,19 +145,130 @@ public interface UserRecommendationSlotRepository extends JpaRepository<UserReco
             Pageable pageable
     );
 
+    /*
+     * 개인화 뉴스 피드 keyset(seek) 조회 - 첫 페이지 1개 + FeedSort별 커서 쿼리 1개씩 (countQuery 없음)
+     * 커서 쿼리는 선두 컬럼 범위 조건(slotAt <= / priority >=)을 먼저 두어 정렬 인덱스를 range scan으로 읽는다
+     * - LATEST: uq_user_slot_type 역방향 스캔 (user_id, content_type, slot_at, [id])
+     * - PRIORITY: idx_user_type_priority_slot (user_id, content_type, priority, slot_at DESC, id DESC)
+     * - MIXED: idx_user_type_slot_priority (user_id, content_type, slot_at DESC, priority, id DESC)
+     * pageable은 limit(size + 1) 용도로만 사용
+     */
+    // 첫 페이지: 커서 조건 없음, ORDER BY는 pageable Sort(FeedSort.sort())
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlot s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+            """)
+    List<NewsFeedItemDto> findNewsFeedFirst(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // LATEST: slotAt DESC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlot s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.slotAt <= :cursorSlotAt
+              and (s.slotAt < :cursorSlotAt or s.id < :cursorId)
+            order by s.slotAt desc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedLatestAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // PRIORITY: priority ASC, slotAt DESC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlot s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.priority >= :cursorPriority
+              and (s.priority > :cursorPriority
+                   or s.slotAt < :cursorSlotAt
+                   or (s.slotAt = :cursorSlotAt and s.id < :cursorId))
+            order by s.priority asc, s.slotAt desc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedPriorityAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorPriority") Integer cursorPriority,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // MIXED: slotAt DESC, priority ASC, id DESC
+    @Query("""
+            select new com.c102.picky.domain.recommendation.dto.NewsFeedItemDto(
+              s.id, n.id, n.title, n.summary, n.url, c.name, n.publishedAt,
+              s.priority, s.slotAt, s.reason
+            )
+            from UserRecommendationSlot s
+              join News n on n.id = s.newsId
+              join n.category c
+            where s.userId = :userId
+              and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.NEWS
+              and (:from is null or s.slotAt >= :from)
+              and (:to   is null or s.slotAt <  :to)
+              and s.slotAt <= :cursorSlotAt
+              and (s.slotAt < :cursorSlotAt
+                   or s.priority > :cursorPriority
+                   or (s.priority = :cursorPriority and s.id < :cursorId))
+            order by s.slotAt desc, s.priority asc, s.id desc
+            """)
+    List<NewsFeedItemDto> findNewsFeedMixedAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorSlotAt") LocalDateTime cursorSlotAt,
+            @Param("cursorPriority") Integer cursorPriority,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 미시도 우선 → 우선순위 → 슬롯 시간: idx_user_type_status_attempted 순서 그대로 읽는다 (조인/GROUP BY/filesort 없음)
+    // (user_id, content_type, slot_at)이 유니크라 id 타이브레이크는 필요 없다
     @Query(value = """
             select s from UserRecommendationSlot s
-              left join QuizAttempt qa
-                on qa.quizId = s.quizId and qa.userId = :userId
             where s.userId = :userId
               and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.QUIZ
               and s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
               and s.quizId is not null
-            group by s
-            order by case when count(qa.id) > 0 then 1 else 0 end,
+            order by s.attempted asc,
                      s.priority asc,
-                     s.slotAt asc,
-                     s.id desc
+                     s.slotAt asc
             """,
             countQuery = """
                       select count(s) from UserRecommendationSlot s
@@ -98,6 +283,19 @@ public interface UserRecommendationSlotRepository extends JpaRepository<UserReco
             Pageable pageable
     );
 
+    // 정답 제출 시: 해당 퀴즈들이 바인딩된 유저의 슬롯 전부를 시도함으로 표시
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                update UserRecommendationSlot s
+                   set s.attempted = true
+                 where s.userId = :userId
+                   and s.contentType = com.c102.picky.domain.recommendation.model.ContentType.QUIZ
+                   and s.quizId in :quizIds
+                   and s.attempted = false
+            """)
+    int markQuizzesAttempted(@Param("userId") Long userId, @Param("quizIds") Collection<Long> quizIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
                 update UserRecommendationSlot s
@@ -111,4 +309,46 @@ public interface UserRecommendationSlotRepository extends JpaRepository<UserReco
                          @Param("slotIds") List<Long> slotIds,
                          @Param("from") com.c102.picky.domain.recommendation.model.SlotStatus from,
                          @Param("to") com.c102.picky.domain.recommendation.model.SlotStatus to);
+
+    // 대기열에서 선점된 슬롯의 비동기 DELIVERED 반영
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                update UserRecommendationSlot s
+                   set s.status = com.c102.picky.domain.recommendation.model.SlotStatus.DELIVERED,
+                       s.updatedAt = current_timestamp
+                 where s.id in :slotIds
+                   and s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+            """)
+    int markDelivered(@Param("slotIds") List<Long> slotIds);
+
+    // 만료 대상(윈도우를 벗어난 SCHEDULED) id 범위 - idx_status_slot 인덱스만 읽는다
+    @Query("""
+                select min(s.id) from UserRecommendationSlot s
+                 where s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+                   and s.slotAt < :cutoff
+            """)
+    Long findMinStaleScheduledId(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("""
+                select max(s.id) from UserRecommendationSlot s
+                 where s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+                   and s.slotAt < :cutoff
+            """)
+    Long findMaxStaleScheduledId(@Param("cutoff") LocalDateTime cutoff);
+
+    // PK 범위 단위 만료 처리 - 청크마다 바로 커밋해서 락을 짧게 유지
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                update UserRecommendationSlot s
+                   set s.status = com.c102.picky.domain.recommendation.model.SlotStatus.EXPIRED,
+                       s.updatedAt = current_timestamp
+                 where s.id between :fromId and :toId
+                   and s.status = com.c102.picky.domain.recommendation.model.SlotStatus.SCHEDULED
+                   and s.slotAt < :cutoff
+            """)
+    int expireStaleInRange(@Param("fromId") Long fromId,
+                           @Param("toId") Long toId,
+                           @Param("cutoff") LocalDateTime cutoff);
 }
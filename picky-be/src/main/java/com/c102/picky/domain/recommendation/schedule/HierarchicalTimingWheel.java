@@ -0,0 +1,144 @@
+package com.c102.picky.domain.recommendation.schedule;
+
+import java.util.*;
+
+/**
+ * 계층형 타이밍 휠 (Linux timer wheel 방식)
+ * <p>
+ * - 레벨 4개 × 버킷 64개, 레벨 l의 버킷 1칸 = 64^l 틱
+ * - 등록/취소 O(1), 만료 처리는 틱당 버킷 1개 + 상위 레벨 cascade 시 재배치 (항목당 상수 횟수)
+ * - 표현 범위(64^4 틱)를 넘는 항목은 overflow에 두었다가 최상위 레벨이 돌 때 다시 배치한다
+ * <p>
+ * 스레드 안전: 모든 연산은 단일 모니터로 보호 (임계 구역이 짧다)
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMs;
+    private final List<List<Entry<K, V>>> buckets = new ArrayList<>(LEVELS * WHEEL_SIZE);
+    private final List<Entry<K, V>> overflow = new ArrayList<>();
+    private final List<Entry<K, V>> expired = new ArrayList<>();
+    private final Map<K, Entry<K, V>> index = new HashMap<>();
+
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMs, long startMs) {
+        this.tickMs = tickMs;
+        this.currentTick = startMs / tickMs;
+        for (int i = 0; i < LEVELS * WHEEL_SIZE; i++) buckets.add(new ArrayList<>());
+    }
+
+    /**
+     * 등록 (같은 key가 있으면 교체). 이미 지난 시간이면 다음 advance에서 바로 만료된다.
+     */
+    public synchronized void schedule(K key, long dueAtMs, V value) {
+        cancel(key);
+        Entry<K, V> entry = new Entry<>(key, dueAtMs / tickMs, value);
+        index.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * 취소: 버킷에서 빼지 않고 표시만 한다 (만료/재배치 시 버려짐)
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K, V> entry = index.remove(key);
+        if (entry == null) return false;
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * nowMs까지 시간을 진행하고 만료된 값들을 만료 시각 순서대로 반환한다
+     */
+    public synchronized List<V> advance(long nowMs) {
+        List<V> fired = new ArrayList<>();
+        drain(expired, fired);
+
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            drain(expired, fired);   // cascade 중 정확히 이번 틱에 만료되는 항목
+            drain(bucket(0, (int) (currentTick & MASK)), fired);
+        }
+        return fired;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delta = entry.dueTick - currentTick;
+        if (delta <= 0) {
+            expired.add(entry);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (LEVEL_BITS * (level + 1))) {
+                int slot = (int) ((entry.dueTick >>> (LEVEL_BITS * level)) & MASK);
+                bucket(level, slot).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    /**
+     * 하위 레벨이 한 바퀴 돌 때마다 상위 레벨의 현재 버킷을 풀어 다시 배치한다
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (LEVEL_BITS * level)) - 1);
+            if (lowerBits != 0) return;
+
+            int slot = (int) ((currentTick >>> (LEVEL_BITS * level)) & MASK);
+            List<Entry<K, V>> bucket = bucket(level, slot);
+            List<Entry<K, V>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K, V> entry : moving) {
+                if (!entry.cancelled) place(entry);
+            }
+
+            if (level == LEVELS - 1 && slot == 0 && !overflow.isEmpty()) {
+                List<Entry<K, V>> pending = new ArrayList<>(overflow);
+                overflow.clear();
+                for (Entry<K, V> entry : pending) {
+                    if (!entry.cancelled) place(entry);
+                }
+            }
+        }
+    }
+
+    private void drain(List<Entry<K, V>> bucket, List<V> fired) {
+        if (bucket.isEmpty()) return;
+        for (Entry<K, V> entry : bucket) {
+            if (entry.cancelled) continue;
+            index.remove(entry.key);
+            fired.add(entry.value);
+        }
+        bucket.clear();
+    }
+
+    private List<Entry<K, V>> bucket(int level, int slot) {
+        return buckets.get(level * WHEEL_SIZE + slot);
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final long dueTick;
+        private final V value;
+        private boolean cancelled;
+
+        private Entry(K key, long dueTick, V value) {
+            this.key = key;
+            this.dueTick = dueTick;
+            this.value = value;
+        }
+    }
+}
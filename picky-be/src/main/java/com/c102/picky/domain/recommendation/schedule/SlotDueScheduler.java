@@ -0,0 +1,82 @@
+package com.c102.picky.domain.recommendation.schedule;
+
+import com.c102.picky.domain.recommendation.event.SlotDueEvent;
+import com.c102.picky.domain.recommendation.event.SlotScheduledEvent;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 슬롯 도래 시각 스케줄러
+ * <p>
+ * - 기동 시 SCHEDULED 슬롯(최근 lookback 이후)을 타이밍 휠에 적재
+ * - 업서트 커밋 이후 SlotScheduledEvent로 갱신
+ * - 1초마다 휠을 진행시켜 도래한 슬롯마다 {@link SlotDueEvent}를 발행 (범위 조회 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotDueScheduler implements ApplicationRunner {
+
+    private static final long TICK_MS = 1000L;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final UserRecommendationSlotRepository slotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final HierarchicalTimingWheel<String, SlotDueEvent> wheel =
+            new HierarchicalTimingWheel<>(TICK_MS, System.currentTimeMillis());
+
+    // /next 윈도우 시작과 동일 (이보다 오래된 SCHEDULED 슬롯은 배달 대상이 아님)
+    @Value("${app.recommendation.due.lookback-days:2}")
+    private long lookbackDays;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<SlotDueEvent> slots = slotRepository.findScheduledDueEvents(LocalDateTime.now().minusDays(lookbackDays));
+        slots.forEach(this::schedule);
+        log.info("[SlotDueScheduler] loaded {} scheduled slots", slots.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotScheduled(SlotScheduledEvent event) {
+        schedule(new SlotDueEvent(event.slotId(), event.userId(), event.contentType(), event.slotAt()));
+    }
+
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        for (SlotDueEvent due : wheel.advance(System.currentTimeMillis())) {
+            try {
+                eventPublisher.publishEvent(due);
+            } catch (RuntimeException e) {
+                log.warn("slot due listener failed slotId={}, userId={}", due.slotId(), due.userId(), e);
+            }
+        }
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    private void schedule(SlotDueEvent due) {
+        wheel.schedule(key(due), due.slotAt().atZone(ZONE).toInstant().toEpochMilli(), due);
+    }
+
+    // 배치 업서트처럼 slotId를 모르면 (userId, type, slotAt)으로 식별 (uq_user_slot_type과 동일)
+    private static String key(SlotDueEvent due) {
+        return due.slotId() != null
+                ? String.valueOf(due.slotId())
+                : due.userId() + ":" + due.contentType() + ":" + due.slotAt();
+    }
+}
@@ -0,0 +1,108 @@
+package com.c102.picky.domain.recommendation.schedule;
+
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 슬롯 정리
+ * <p>
+ * - /next 윈도우(now - lookback)를 벗어난 SCHEDULED 슬롯은 더는 배달되지 않으므로 EXPIRED로 바꾼다
+ *   → 선점 스캔 / 퀴즈 페이지 조회 대상에서 빠지고, 이후 아카이브 잡이 옮겨 간다
+ * - PK 범위(chunk-size) 단위 UPDATE, 청크마다 바로 커밋 + 짧은 휴식 → 폴링과 락 경합 최소화
+ * - 1회 실행당 최대 row-budget건 / max-run-ms까지만 바꾸고 나머지는 다음 실행으로
+ *   (청크 범위를 남은 row 예산으로 줄여 예산을 넘지 않고, 시간 예산은 청크마다 확인)
+ * - 청크 사이 휴식(sleep)이 공용 스케줄러 스레드를 잡지 않도록 전용 스레드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotExpirySweeper {
+
+    private final UserRecommendationSlotRepository slotRepository;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskScheduler sweepScheduler = new ThreadPoolTaskScheduler();
+
+    @Value("${app.recommendation.due.lookback-days:2}")
+    private long lookbackDays;
+
+    // write-back 대기 중인 슬롯과 경합하지 않도록 윈도우보다 조금 더 오래된 것만
+    @Value("${app.recommendation.expiry.grace-minutes:60}")
+    private long graceMinutes;
+
+    @Value("${app.recommendation.expiry.chunk-size:2000}")
+    private long chunkSize;
+
+    @Value("${app.recommendation.expiry.row-budget:50000}")
+    private int rowBudget;
+
+    @Value("${app.recommendation.expiry.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${app.recommendation.expiry.max-run-ms:30000}")
+    private long maxRunMs;
+
+    @Value("${app.recommendation.expiry.interval-ms:600000}")
+    private long intervalMs;
+
+    @PostConstruct
+    void startScheduler() {
+        sweepScheduler.setPoolSize(1);
+        sweepScheduler.setThreadNamePrefix("slot-expiry-");
+        sweepScheduler.setDaemon(true);
+        sweepScheduler.initialize();
+        sweepScheduler.scheduleWithFixedDelay(this::sweep, Duration.ofMillis(intervalMs));
+    }
+
+    @PreDestroy
+    void stopScheduler() {
+        sweepScheduler.shutdown();
+    }
+
+    void sweep() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(lookbackDays).minusMinutes(graceMinutes);
+
+        Long minId = slotRepository.findMinStaleScheduledId(cutoff);
+        Long maxId = slotRepository.findMaxStaleScheduledId(cutoff);
+        int expired = 0;
+
+        if (minId != null && maxId != null) {
+            long from = minId;
+            while (from <= maxId && expired < rowBudget && System.currentTimeMillis() < deadline) {
+                // 범위 안 row 수 <= 범위 크기 → 남은 예산만큼만 잡으면 예산을 넘지 않는다
+                long span = Math.min(chunkSize, rowBudget - expired);
+                long to = Math.min(from + span - 1, maxId);
+                expired += slotRepository.expireStaleInRange(from, to, cutoff);
+                from = to + 1;
+                if (!pause()) break;
+            }
+        }
+
+        meterRegistry.counter("recommendation.expiry.expired").increment(expired);
+        sample.stop(meterRegistry.timer("recommendation.expiry.sweep"));
+        if (expired > 0) log.info("[SlotExpirySweeper] expired {} slots older than {}", expired, cutoff);
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
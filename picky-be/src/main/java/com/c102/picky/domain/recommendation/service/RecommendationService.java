@@ -2,16 +2,26 @@ package com.c102.picky.domain.recommendation.service;
 
 import com.c102.picky.domain.recommendation.dto.*;
 import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.global.dto.CursorPageResponse;
 import com.c102.picky.global.dto.PageResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RecommendationService {
     RecommendationPayloadResponseDto getNextRecommendation(Long userId, ContentType contentType, LocalDateTime windowStart, LocalDateTime windowEnd);
 
+    RecommendationPayloadResponseDto claimForPush(Long userId, ContentType contentType, LocalDateTime windowStart, LocalDateTime windowEnd);
+
+    void releaseUndelivered(Long userId, Long slotId);
+
+    List<RecommendationPayloadResponseDto> getNextRecommendations(Long userId, List<ContentType> contentTypes, int count, LocalDateTime windowStart, LocalDateTime windowEnd);
+
     void acknowledgeRecommendation(Long userId, Long slotId, RecommendationAckRequestDto request);
 
-    void upsertSlot(RecommendationUpsertRequestDto request);
+    RecommendationUpsertResponseDto upsertSlot(RecommendationUpsertRequestDto request);
 
     PageResponse<NewsFeedItemDto> getNewsFeed(Long userId, Integer page, Integer size, FeedSort sortMode, LocalDateTime from, LocalDateTime to);
+
+    CursorPageResponse<NewsFeedItemDto> getNewsFeedByCursor(Long userId, String cursor, Integer size, FeedSort sortMode, LocalDateTime from, LocalDateTime to, boolean includeArchive);
 }
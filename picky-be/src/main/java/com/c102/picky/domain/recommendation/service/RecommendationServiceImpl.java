@@ -1,168 +1,308 @@
 package com.c102.picky.domain.recommendation.service;
 
+import com.c102.picky.domain.content.dto.NewsPayloadDto;
+import com.c102.picky.domain.content.dto.QuizPayloadDto;
 import com.c102.picky.domain.content.service.ContentQueryService;
+import com.c102.picky.domain.content.service.SeenContentService;
+import com.c102.picky.domain.fact.catalog.FactCatalog;
 import com.c102.picky.domain.fact.entity.Fact;
-import com.c102.picky.domain.fact.entity.FactView;
 import com.c102.picky.domain.fact.repository.FactRepository;
-import com.c102.picky.domain.fact.repository.FactViewRepository;
+import com.c102.picky.domain.recommendation.ack.AckWriteBehindBuffer;
+import com.c102.picky.domain.recommendation.bloom.RecommendedNewsFilter;
+import com.c102.picky.domain.recommendation.cache.LastSlotTimeCache;
+import com.c102.picky.domain.recommendation.cache.NewsFeedCache;
 import com.c102.picky.domain.recommendation.dto.*;
 import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.event.SlotScheduledEvent;
+import com.c102.picky.domain.recommendation.metrics.RecommendationMetrics;
 import com.c102.picky.domain.recommendation.model.ContentType;
 import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.planner.DeliveryPlanner;
+import com.c102.picky.domain.recommendation.queue.SlotReadyQueue;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotArchiveRepository;
 import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
-import com.c102.picky.domain.usersettings.service.UserSettingsService;
+import com.c102.picky.global.dto.CursorPageResponse;
 import com.c102.picky.global.dto.PageResponse;
 import com.c102.picky.global.exception.ApiException;
 import com.c102.picky.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
 
     private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUEUE_CLAIM_ATTEMPTS = 5;
+    private static final int MAX_DELIVERY_ATTEMPTS = 3;
+    private static final int MAX_BUNDLE_COUNT = 10;
 
     private final UserRecommendationSlotRepository slotRepository;
+    private final UserRecommendationSlotArchiveRepository archiveRepository;
     private final FactRepository factRepository;
-    private final FactViewRepository factViewRepository;
+    private final FactCatalog factCatalog;
 
     private final ContentQueryService contentQueryService;
-    private final UserSettingsService userSettingsService;
+    private final SeenContentService seenContentService;
+
+    private final SlotReadyQueue slotReadyQueue;
+    private final NewsFeedCache newsFeedCache;
+    private final RecommendedNewsFilter recommendedNewsFilter;
+    private final LastSlotTimeCache lastSlotTimeCache;
+    private final DeliveryPlanner deliveryPlanner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecommendationMetrics metrics;
+    private final AckWriteBehindBuffer ackBuffer;
+    private final SlotStateMachine slotStateMachine;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public RecommendationPayloadResponseDto getNextRecommendation(Long userId, ContentType contentType, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        RecommendationPayloadResponseDto payload = claimNext(userId, contentType, windowStart, windowEnd, slotReadyQueue.isEnabled());
+        metrics.poll(contentType, payload != null ? "delivered" : "empty");
+        return payload;
+    }
 
-        // 1) 윈도우 내에서 'SCHEDULED' 슬롯 1건을 락 걸고 집어온다 (경쟁 방지)
-        var list = slotRepository.findTopForDeliveryWithLock(
-                userId, contentType, windowStart, windowEnd, SlotStatus.SCHEDULED, PageRequest.of(0, 1));
-
-        if (list.isEmpty()) return null;
+    /**
+     * SSE 푸시용 선점: 폴링 메트릭 없이, DELIVERED는 write-back 없이 이 트랜잭션에서 반영한다
+     * (커밋 후 푸시가 실패하면 {@link #releaseUndelivered}로 되돌릴 수 있게)
+     */
+    @Override
+    @Transactional
+    public RecommendationPayloadResponseDto claimForPush(Long userId, ContentType contentType, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return claimNext(userId, contentType, windowStart, windowEnd, false);
+    }
 
-        UserRecommendationSlot slot = list.get(0);
+    /**
+     * 선점을 커밋했지만 전달하지 못한 슬롯을 SCHEDULED로 되돌린다 (그 사이 ack로 상태가 바뀌었으면 그대로 둔다)
+     * - 트랜잭션 없이: 조건부 UPDATE가 자동 커밋된 뒤에 대기열에 되돌린다 (먼저 꺼내 가면 DELIVERED로 보고 버리므로)
+     */
+    @Override
+    public void releaseUndelivered(Long userId, Long slotId) {
+        if (!slotStateMachine.apply(userId, slotId, SlotTransition.RELEASE)) return;
 
-        // 2) 공통 응답 빌더 (타입별 contentId는 분기 안에서 넣는다)
-        var builder = RecommendationPayloadResponseDto.builder()
-                .slotId(slot.getId())
-                .contentType(slot.getContentType())
-                .slotAt(slot.getSlotAt());
+        slotRepository.findById(slotId).ifPresent(slot -> {
+            touchFeed(slot);
+            if (slotReadyQueue.isEnabled()) slotReadyQueue.release(slot);
+        });
+    }
 
-        // 3) 타입별 페이로드 구성 & 딜리버리 처리
-        switch (slot.getContentType()) {
-            case NEWS -> {
+    /**
+     * @param writeBack 대기열에서 꺼낸 슬롯의 DELIVERED를 비동기 write-back에 맡길지 (false면 여기서 조건부 UPDATE)
+     */
+    private RecommendationPayloadResponseDto claimNext(Long userId, ContentType contentType, LocalDateTime windowStart,
+                                                      LocalDateTime windowEnd, boolean writeBack) {
+
+        // 1) 윈도우 내에서 'SCHEDULED' 슬롯 후보를 선점한다
+        //    - 대기열 사용 시: Redis에서 원자적으로 1건씩 꺼내고, DELIVERED 반영은 비동기 write-back (푸시 선점은 여기서 바로)
+        //    - 미사용 시: SKIP LOCKED로 MySQL에서 최대 N건 선점 (다른 폴링이 잡은 행은 기다리지 않고 건너뜀)
+        boolean fromQueue = slotReadyQueue.isEnabled();
+        Deque<UserRecommendationSlot> candidates = fromQueue ? null : new ArrayDeque<>(
+                metrics.timeClaim("skip_locked", contentType,
+                        () -> slotRepository.claimForDeliverySkipLocked(userId, contentType.name(), windowStart, windowEnd, MAX_DELIVERY_ATTEMPTS)));
+
+        // 2) 전달 가능한 슬롯이 나올 때까지 제한된 횟수만큼 이어서 시도
+        //    - FACT는 바인딩된 팩트가 사라졌거나 이미 봤으면 안 본 팩트로 다시 바인딩해서 전달
+        //    - 그래도 전달 불가(콘텐츠 삭제 / 안 본 팩트 없음)면 뒤로 미루고 다음 후보
+        FactRebindPool rebindPool = null;
+        for (int attempt = 0; attempt < MAX_DELIVERY_ATTEMPTS; attempt++) {
+            UserRecommendationSlot slot = fromQueue
+                    ? metrics.timeClaim("queue", contentType, () -> claimFromQueue(userId, contentType, windowStart, windowEnd, writeBack))
+                    : candidates.pollFirst();
+            if (slot == null) break;
+
+            var hydration = metrics.startHydration();
+            RecommendationPayloadResponseDto payload = switch (slot.getContentType()) {
                 // NEWS: 슬롯에 이미 newsId가 있으니 바로 채운다
-                builder.contentId(slot.getNewsId());
-                var news = contentQueryService.getNewsPayload(slot.getNewsId());
-                builder
-                        .title(news.getTitle())
-                        .url(news.getUrl());
-                builder.extras(Map.of(
-                        "summary", news.getSummary(),
-                        "published_at", news.getPublishedAt(),
-                        "categoryId", news.getCategoryId(),
-                        "categoryName", news.getCategoryName()
-                ));
-                // 딜리버리 완료 마킹(상태 = DELIVERED, 이벤트 기록)
-                slot.setStatus(SlotStatus.DELIVERED);
-            }
-            case QUIZ -> {
+                case NEWS -> Optional.ofNullable(contentQueryService.getNewsPayloads(List.of(slot.getNewsId())).get(slot.getNewsId()))
+                        .map(n -> newsPayload(slot, n)).orElse(null);
                 // QUIZ: 정답/해설 없이 문제만 노출
-                builder.contentId(slot.getQuizId());
-                var quiz = contentQueryService.getQuizPayload(slot.getQuizId(), false, false);
-                builder
-                        .question(quiz.getQuestion())
-                        .extras(Map.of(
-                                "title", quiz.getTitle(),
-                                "url", quiz.getUrl(),
-                                "rule", quiz.getRule()
-                        ));
-                // 딜리버리 완료 마킹
-                slot.setStatus(SlotStatus.DELIVERED);
-            }
-            case FACT -> {
-                // FACT: 슬롯에 factId가 '미리 바인딩'되어 있어야 한다
-                Long factId = slot.getFactId();
-                if (factId == null) {   // 방어: 없으면 뒤로 미룬다
-                    pushBack(slot);
-                    return null;
+                case QUIZ -> Optional.ofNullable(contentQueryService.getQuizPayloads(List.of(slot.getQuizId()), false, false).get(slot.getQuizId()))
+                        .map(q -> quizPayload(slot, q)).orElse(null);
+                // FACT: 슬롯에 '미리 바인딩'된 팩트가 전달 가능한지 확인 -> 아니면 재바인딩
+                case FACT -> {
+                    Fact fact = deliverableFact(userId, slot.getFactId());
+                    if (fact == null) {
+                        if (rebindPool == null) rebindPool = new FactRebindPool(userId);
+                        fact = rebindPool.next();
+                        if (fact != null) {
+                            slot.setFactId(fact.getId());
+                            metrics.factRebind();
+                        }
+                    }
+                    yield fact == null ? null : factPayload(slot, fact);
                 }
+            };
+            metrics.stopHydration(hydration, slot.getContentType());
+
+            if (payload == null) {
+                pushBack(slot, fromQueue);
+                // 안 본 팩트가 더 없으면 다른 FACT 슬롯도 전달 불가 -> 더 시도하지 않는다
+                if (rebindPool != null && rebindPool.isExhausted()) break;
+                continue;
+            }
 
-                // 3-1) 팩트 존재 확인 (삭제/비활성 등으로 사라졌을 수 있음)
-                var factOpt = factRepository.findById(factId);
-                if (factOpt.isEmpty()) {    // 방어: 없으면 뒤로 미룬다
-                    pushBack(slot);
-                    return null;
-                }
+            // 3) 딜리버리 완료 마킹(상태 = DELIVERED)
+            markDelivered(slot, writeBack);
+            touchFeed(slot);
+            metrics.slotAge(contentType, slot.getSlotAt());
+            return payload;
+        }
+        return null;
+    }
 
-                // 3-2) '이미 본 팩트'인지 체크 -> 이미 봤다면 뒤로 미룬다
-                if (factViewRepository.existsByUserIdAndFactId(userId, factId)) {
-                    pushBack(slot);
-                    return null;
-                }
+    /**
+     * 여러 타입의 추천을 한 번에 가져오기 (번들)
+     * <p>
+     * 흐름:
+     * 1) 타입별로 최대 count건 선점 (한 트랜잭션)
+     * 2) 뉴스/퀴즈/팩트를 테이블당 IN 쿼리 1번으로 하이드레이션
+     * 3) 요청한 타입 순서 → 선점 순서(priority, id)대로 페이로드 구성
+     *    (FACT는 바인딩된 팩트가 사라졌거나 이미 봤으면 단건 경로처럼 재바인딩, 그래도 전달 불가한 슬롯은 뒤로 미룬다)
+     */
+    @Override
+    @Transactional
+    public List<RecommendationPayloadResponseDto> getNextRecommendations(Long userId, List<ContentType> contentTypes, int count,
+                                                                         LocalDateTime windowStart, LocalDateTime windowEnd) {
+        if (contentTypes == null || contentTypes.isEmpty() || count < 1 || count > MAX_BUNDLE_COUNT) {
+            throw new ApiException(ErrorCode.VALIDATION_FAILED);
+        }
 
-                // 3-3) 전달 가능: 페이로드 채우기
-                var fact = factOpt.get();
-                builder.contentId(fact.getId());
-                builder.title(fact.getTitle());
-                builder.extras(Map.of("content", fact.getContent(), "url", fact.getUrl()));
+        // 1) 타입별 선점
+        boolean fromQueue = slotReadyQueue.isEnabled();
+        Set<ContentType> requestedTypes = new LinkedHashSet<>(contentTypes);
+        List<UserRecommendationSlot> claimed = new ArrayList<>();
+        for (ContentType contentType : requestedTypes) {
+            List<UserRecommendationSlot> slots = fromQueue
+                    ? metrics.timeClaim("queue", contentType, () -> claimManyFromQueue(userId, contentType, windowStart, windowEnd, count))
+                    : metrics.timeClaim("skip_locked", contentType,
+                            () -> slotRepository.claimForDeliverySkipLocked(userId, contentType.name(), windowStart, windowEnd, count));
+            claimed.addAll(slots);
+        }
+        if (claimed.isEmpty()) {
+            requestedTypes.forEach(contentType -> metrics.poll(contentType, "empty"));
+            return List.of();
+        }
 
-                // 3-4) 딜리버리 완료 마킹
-                slot.setStatus(SlotStatus.DELIVERED);
+        // 2) 테이블당 IN 쿼리 1번
+        var newsHydration = metrics.startHydration();
+        Map<Long, NewsPayloadDto> newsMap = contentQueryService.getNewsPayloads(contentIds(claimed, ContentType.NEWS));
+        metrics.stopHydration(newsHydration, ContentType.NEWS);
+
+        var quizHydration = metrics.startHydration();
+        Map<Long, QuizPayloadDto> quizMap = contentQueryService.getQuizPayloads(contentIds(claimed, ContentType.QUIZ), false, false);
+        metrics.stopHydration(quizHydration, ContentType.QUIZ);
+
+        var factHydration = metrics.startHydration();
+        List<Long> factIds = contentIds(claimed, ContentType.FACT);
+        Map<Long, Fact> factMap = factIds.isEmpty() ? Map.of()
+                : factRepository.findAllById(factIds).stream().collect(Collectors.toMap(Fact::getId, Function.identity()));
+        Set<Long> seenFactIds = factIds.stream()
+                .filter(factId -> seenContentService.isSeen(userId, ContentType.FACT, factId))
+                .collect(Collectors.toSet());
+        metrics.stopHydration(factHydration, ContentType.FACT);
+
+        // 3) 페이로드 구성 (DELIVERED 반영은 마지막에 배치 1번, 대기열은 write-back)
+        List<RecommendationPayloadResponseDto> payloads = new ArrayList<>(claimed.size());
+        List<SlotStateMachine.Target> delivered = new ArrayList<>(claimed.size());
+        FactRebindPool rebindPool = null;
+        for (UserRecommendationSlot slot : claimed) {
+            RecommendationPayloadResponseDto payload = switch (slot.getContentType()) {
+                case NEWS -> Optional.ofNullable(newsMap.get(slot.getNewsId())).map(n -> newsPayload(slot, n)).orElse(null);
+                case QUIZ -> Optional.ofNullable(quizMap.get(slot.getQuizId())).map(q -> quizPayload(slot, q)).orElse(null);
+                case FACT -> {
+                    Fact fact = slot.getFactId() == null || seenFactIds.contains(slot.getFactId()) ? null : factMap.get(slot.getFactId());
+                    if (fact == null) {
+                        // 번들 안의 다른 FACT 슬롯에 바인딩된 팩트와 겹치지 않게
+                        if (rebindPool == null) rebindPool = new FactRebindPool(userId).exclude(factIds);
+                        fact = rebindPool.isExhausted() ? null : rebindPool.next();
+                        if (fact != null) {
+                            slot.setFactId(fact.getId());
+                            metrics.factRebind();
+                        }
+                    }
+                    yield fact == null ? null : factPayload(slot, fact);
+                }
+            };
+
+            if (payload == null) {  // 콘텐츠 삭제 / 안 본 팩트 없음 → 뒤로 미룬다
+                pushBack(slot, fromQueue);
+                continue;
             }
+            if (!fromQueue) delivered.add(new SlotStateMachine.Target(userId, slot.getId()));
+            metrics.slotAge(slot.getContentType(), slot.getSlotAt());
+            payloads.add(payload);
         }
+        slotStateMachine.applyAll(SlotTransition.DELIVER, delivered);
 
-        // 4) 최종 응답
-        return builder.build();
+        // 폴링 결과는 페이로드 구성 후에 (선점했어도 전부 뒤로 밀렸으면 empty)
+        Set<ContentType> deliveredTypes = payloads.stream()
+                .map(RecommendationPayloadResponseDto::getContentType)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ContentType.class)));
+        requestedTypes.forEach(contentType -> metrics.poll(contentType, deliveredTypes.contains(contentType) ? "delivered" : "empty"));
+
+        // 피드 캐시 무효화는 유저당 1번이면 충분
+        if (claimed.stream().anyMatch(slot -> slot.getContentType() == ContentType.NEWS)) {
+            newsFeedCache.bump(userId);
+        }
+        return payloads;
     }
 
+    /**
+     * ack 처리
+     * - 상태 전이가 있는 이벤트(OPENED/DISMISS)는 소유 확인(PK 조회 1번)만 하고 write-behind 버퍼에 넣은 뒤 바로 반환
+     *   → 없는 슬롯 / 남의 슬롯은 동기 경로와 같이 SLOT_NOT_FOUND, 상태 전이 반영은 best-effort (AckWriteBehindBuffer 참고)
+     * - 버퍼 비활성 / 가득 참 / 그 외 이벤트는 기존처럼 동기 처리
+     */
     @Override
-    @Transactional
     public void acknowledgeRecommendation(Long userId, Long slotId, RecommendationAckRequestDto request) {
-        // 1) 유저 소유의 슬롯인지 확인
-        UserRecommendationSlot slot = slotRepository.findByIdAndUserId(slotId, userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.SLOT_NOT_FOUND));
-
-        // 2) 이벤트 타입별 상태 전이 + (FACT일 때) 열람 기록
-        // 상태 전이 : OPENED -> SEEN, DISMISS -> DISMISSED
-        switch (request.getEventType()) {
-            case OPENED -> {
-                // UI가 실제로 팝업을 연 시점 -> 슬롯 상태를 SEEN으로
-                slot.setStatus(SlotStatus.SEEN);
-
-                // FACT는 'OPENED' 시점에만 봤다고 기록 (전달 시에는 기록 X)
-                if (slot.getContentType() == ContentType.FACT) {
-                    Long factId = slot.getFactId();
-                    if (factId != null) {
-                        // 중복 방지: 이미 기록돼 있으면 스킵
-                        if (!factViewRepository.existsByUserIdAndFactId(userId, factId)) {
-                            factViewRepository.save(
-                                    FactView.builder()
-                                            .userId(userId)
-                                            .factId(factId)
-                                            .viewAt(LocalDateTime.now())
-                                            .build()
-                            );
-                        }
-                    }
-                }
+        SlotStatus target = switch (request.getEventType()) {
+            case OPENED -> SlotStatus.SEEN;
+            case DISMISS -> SlotStatus.DISMISSED;
+            default -> null;
+        };
+        if (target != null && ackBuffer.isEnabled()) {
+            if (!slotRepository.existsByIdAndUserId(slotId, userId)) {
+                throw new ApiException(ErrorCode.SLOT_NOT_FOUND);
             }
-            case DISMISS -> slot.setStatus(SlotStatus.DISMISSED);
+            if (ackBuffer.offer(userId, slotId, target)) return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> acknowledgeNow(userId, slotId, request));
+    }
+
+    private void acknowledgeNow(Long userId, Long slotId, RecommendationAckRequestDto request) {
+        // 상태 전이 : OPENED -> SEEN, DISMISS -> DISMISSED (조건부 UPDATE 1번, FACT 열람 기록은 ack 버퍼의 일괄 반영 경로)
+        SlotStatus target = switch (request.getEventType()) {
+            case OPENED -> SlotStatus.SEEN;
+            case DISMISS -> SlotStatus.DISMISSED;
+            default -> null;
+        };
+        if (target != null && !ackBuffer.writeNow(List.of(new AckWriteBehindBuffer.Ack(userId, slotId, target, LocalDateTime.now()))).isEmpty()) {
+            return;
+        }
+
+        // 반영되지 않았거나 전이 없는 이벤트: 유저 소유의 슬롯인지만 확인 (이미 끝난 슬롯의 재ack는 그대로 무시)
+        if (!slotRepository.existsByIdAndUserId(slotId, userId)) {
+            throw new ApiException(ErrorCode.SLOT_NOT_FOUND);
         }
     }
 
     @Override
     @Transactional
-    public void upsertSlot(RecommendationUpsertRequestDto request) {
+    public RecommendationUpsertResponseDto upsertSlot(RecommendationUpsertRequestDto request) {
 
         // 1) 타입별 바인딩 무결성 체크
         boolean newsOk = request.getContentType() == ContentType.NEWS && request.getNewsId() != null && request.getQuizId() == null;
@@ -175,11 +315,10 @@ public class RecommendationServiceImpl implements RecommendationService {
             factOk = true;
 
             // 2) factId 미지정이면 '안 본 것 우선'으로 랜덤 픽 -> 없으면 전체 랜덤
+            //    (안 본 것 판별은 메모리 비트맵, NOT EXISTS 카운트/OFFSET 스캔 없음)
             if (request.getFactId() == null) {
-                var rnd = java.util.concurrent.ThreadLocalRandom.current();
-                Long factId = factRepository.pickRandomUnseen(request.getUserId(), rnd)
-                        .or(() -> factRepository.pickAny(rnd))
-                        .map(Fact::getId)
+                Long factId = seenContentService.pickUnseen(request.getUserId(), ContentType.FACT, factCatalog.ids())
+                        .or(factCatalog::pickAny)
                         .orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND)); // 팩트가 0개
                 request.setFactId(factId);  // 미리 바인딩 확정
             }
@@ -189,21 +328,22 @@ public class RecommendationServiceImpl implements RecommendationService {
             throw new ApiException(ErrorCode.INVALID_CONTENT_BINDING);
         }
 
-        // 3) 사용자 설정 기반으로 '다음 슬롯 시간' 계산
-        var userSettings = userSettingsService.findByUserId(request.getUserId());
-        LocalDateTime nextSlotTime = calculateNextSlotTime(request.getUserId(), request.getContentType(), userSettings.getNotifyInterval());
+        // 3) 사용자 설정(간격은 배달 계획의 메모리 값) 기반으로 '다음 슬롯 시간' 계산
+        LocalDateTime nextSlotTime = calculateNextSlotTime(request.getUserId(), request.getContentType(),
+                deliveryPlanner.notifyInterval(request.getUserId()));
 
         // 4) Unique(userId, ContentType, slotAt) 기반 업서트 : 조회 -> 있으면 갱신, 없으면 생성
         LocalDateTime start = nextSlotTime;
         LocalDateTime end = nextSlotTime;
 
-        var existList = slotRepository.findTopForDeliveryWithLock(
+        var existList = metrics.timeLockQuery("for_update", () -> slotRepository.findTopForDeliveryWithLock(
                 request.getUserId(), request.getContentType(), start, end, SlotStatus.SCHEDULED, PageRequest.of(0, 1)
-        );
+        ));
 
+        UserRecommendationSlot saved;
         if (existList.isEmpty()) {
             // 신규 생성
-            slotRepository.save(UserRecommendationSlot.builder()
+            saved = slotRepository.save(UserRecommendationSlot.builder()
                     .userId(request.getUserId())
                     .contentType(request.getContentType())
                     .newsId(request.getNewsId())
@@ -212,6 +352,7 @@ public class RecommendationServiceImpl implements RecommendationService {
                     .slotAt(nextSlotTime)
                     .priority(request.getPriority() == null ? 5 : request.getPriority())
                     .reason(request.getReason())
+                    .attempted(isAttemptedQuiz(request))
                     .status(SlotStatus.SCHEDULED)
                     .build());
         } else {
@@ -226,7 +367,24 @@ public class RecommendationServiceImpl implements RecommendationService {
             s.setQuizId(request.getQuizId());
             s.setFactId(request.getFactId());
             s.setReason(request.getReason());
+            s.setAttempted(isAttemptedQuiz(request));
+            saved = s;
         }
+
+        // 5) 커밋 이후 대기열 등에 반영되도록 이벤트 발행 (+ 뉴스 피드 캐시 무효화)
+        touchFeed(saved);
+        if (saved.getNewsId() != null) recommendedNewsFilter.add(saved.getUserId(), List.of(saved.getNewsId()));
+        eventPublisher.publishEvent(new SlotScheduledEvent(
+                saved.getId(), saved.getUserId(), saved.getContentType(), saved.getSlotAt(), saved.getPriority()));
+
+        return RecommendationUpsertResponseDto.builder()
+                .slotId(saved.getId())
+                .userId(saved.getUserId())
+                .contentType(saved.getContentType())
+                .contentId(saved.getContentId())
+                .slotAt(saved.getSlotAt())
+                .priority(saved.getPriority())
+                .build();
     }
 
     /**
@@ -258,14 +416,13 @@ public class RecommendationServiceImpl implements RecommendationService {
 
         // 2) 정렬 모드 -> Sort
         FeedSort mode = Optional.ofNullable(sortMode).orElse(FeedSort.MIXED);
-        Sort sortSpec = switch (mode) {
-            case LATEST -> Sort.by(Sort.Order.desc("slotAt"), Sort.Order.desc("id"));
-            case PRIORITY -> Sort.by(Sort.Order.asc("priority"), Sort.Order.desc("slotAt"), Sort.Order.desc("id"));
-            case MIXED -> Sort.by(Sort.Order.desc("slotAt"), Sort.Order.asc("priority"), Sort.Order.desc("id"));
-        };
 
-        // 3) Pageable 구성 & Repository 호출
-        Pageable pageable = PageRequest.of(p, s, sortSpec);
+        // 3) Pageable 구성 & Repository 호출 (기간 필터 없는 앞 페이지는 피드 버전 캐시 경유)
+        Pageable pageable = PageRequest.of(p, s, mode.sort());
+        if (newsFeedCache.isCacheable(p, from, to)) {
+            return newsFeedCache.getOrLoad(userId, p, s, mode,
+                    () -> PageResponse.from(slotRepository.findNewsFeed(userId, null, null, pageable)));
+        }
         var pageResult = slotRepository.findNewsFeed(userId, from, to, pageable);
 
         // 4) 공통 페이지 응답으로 변환
@@ -273,30 +430,236 @@ public class RecommendationServiceImpl implements RecommendationService {
     }
 
     /**
-     * 사용자 설정을 기반으로 다음 알림 시간을 계산
+     * 개인화 뉴스 피드 조회 (커서/keyset 방식)
+     * <p>
+     * 흐름:
+     * 1) 입력 검증 + 커서 디코드(정렬 모드가 다르면 실패)
+     * 2) 정렬 모드별 seek 쿼리로 size + 1건 조회 (OFFSET/countQuery 없음 → 깊은 스크롤도 첫 페이지와 같은 비용)
+     * 3) 초과분으로 hasNext 판단, 마지막 항목으로 다음 커서 생성
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<NewsFeedItemDto> getNewsFeedByCursor(
+            Long userId, String cursor, Integer size, FeedSort sortMode, LocalDateTime from, LocalDateTime to,
+            boolean includeArchive) {
+
+        // 1) 입력 검증
+        if (userId == null) throw new ApiException(ErrorCode.UNAUTHORIZED);
+        if (from != null && to != null && !from.isBefore(to)) throw new ApiException(ErrorCode.VALIDATION_FAILED);
+
+        int s = Optional.ofNullable(size).orElse(10);
+        if (s <= 0 || s > MAX_PAGE_SIZE) throw new ApiException(ErrorCode.VALIDATION_FAILED);
+
+        FeedSort mode = Optional.ofNullable(sortMode).orElse(FeedSort.MIXED);
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor, mode);
+
+        // 2) seek 조회 (size + 1)
+        //    첫 페이지는 커서 조건 없이 Sort로, 이후는 모드별 seek 쿼리로 (선두 범위 조건 → 인덱스 range scan)
+        Pageable limit = PageRequest.of(0, s + 1);
+        List<NewsFeedItemDto> fetched = after == null
+                ? slotRepository.findNewsFeedFirst(userId, from, to, PageRequest.of(0, s + 1, mode.sort()))
+                : switch (mode) {
+                    case LATEST -> slotRepository.findNewsFeedLatestAfter(userId, from, to, after.slotAt(), after.id(), limit);
+                    case PRIORITY -> slotRepository.findNewsFeedPriorityAfter(userId, from, to, after.slotAt(), after.priority(), after.id(), limit);
+                    case MIXED -> slotRepository.findNewsFeedMixedAfter(userId, from, to, after.slotAt(), after.priority(), after.id(), limit);
+                };
+
+        // 2-1) 아카이브 read-through: 같은 커서 조건으로 아카이브도 size + 1건 읽고 정렬 기준으로 병합
+        //      (슬롯 id는 아카이브로 옮겨도 그대로라 커서가 두 테이블에 걸쳐 이어진다)
+        if (includeArchive) {
+            List<NewsFeedItemDto> archived = after == null
+                    ? archiveRepository.findNewsFeedFirst(userId, from, to, PageRequest.of(0, s + 1, mode.sort()))
+                    : switch (mode) {
+                        case LATEST -> archiveRepository.findNewsFeedLatestAfter(userId, from, to, after.slotAt(), after.id(), limit);
+                        case PRIORITY -> archiveRepository.findNewsFeedPriorityAfter(userId, from, to, after.slotAt(), after.priority(), after.id(), limit);
+                        case MIXED -> archiveRepository.findNewsFeedMixedAfter(userId, from, to, after.slotAt(), after.priority(), after.id(), limit);
+                    };
+            if (!archived.isEmpty()) {
+                List<NewsFeedItemDto> merged = new ArrayList<>(fetched.size() + archived.size());
+                merged.addAll(fetched);
+                merged.addAll(archived);
+                merged.sort(mode.comparator());
+                fetched = merged.subList(0, Math.min(merged.size(), s + 1));
+            }
+        }
+
+        // 3) 커서 페이지 응답
+        return CursorPageResponse.of(fetched, s, item -> FeedCursor.from(mode, item).encode());
+    }
+
+    /**
+     * 사용자 설정을 기반으로 다음 알림 시간을 계산 (마지막 슬롯 시간은 캐시에서, DB 조회 없음)
      */
     private LocalDateTime calculateNextSlotTime(Long userId, ContentType contentType, int notifyIntervalMinutes) {
-        // 사용자의 마지막 알림 시간 조회
-        var lastSlot = slotRepository.findTopByUserIdAndContentTypeOrderBySlotAtDesc(userId, contentType);
+        // 마지막 알림 시간(없으면 현재)에서 interval만큼 더한 시간을 원자적으로 예약
+        return lastSlotTimeCache.reserveNext(userId, contentType, notifyIntervalMinutes);
+    }
 
-        LocalDateTime baseTime;
-        if (lastSlot.isPresent()) {
-            // 마지막 알림 시간에서 interval만큼 더함
-            baseTime = lastSlot.get().getSlotAt().plusMinutes(notifyIntervalMinutes);
-        } else {
-            // 첫 번째 알림이면 현재 시간에서 interval만큼 더함
-            baseTime = LocalDateTime.now().plusMinutes(notifyIntervalMinutes);
+    /**
+     * 대기열에서 슬롯을 꺼내 DB 기준으로 아직 SCHEDULED인지 확인한다 (PK 조회만, 범위 스캔/락 없음)
+     * 다른 경로로 이미 배달/삭제된 슬롯이면 다음 후보를 꺼낸다.
+     */
+    private UserRecommendationSlot claimFromQueue(Long userId, ContentType contentType, LocalDateTime windowStart, LocalDateTime windowEnd,
+                                                  boolean writeBack) {
+        for (int i = 0; i < MAX_QUEUE_CLAIM_ATTEMPTS; i++) {
+            Optional<Long> slotId = slotReadyQueue.claim(userId, contentType, windowStart, windowEnd, writeBack);
+            if (slotId.isEmpty()) return null;
+
+            var slot = slotRepository.findById(slotId.get()).orElse(null);
+            if (slot != null && slot.getStatus() == SlotStatus.SCHEDULED) return slot;
         }
+        return null;
+    }
 
-        return baseTime;
+    /**
+     * 딜리버리 완료 마킹: write-back에 맡긴 대기열 선점은 여기서는 건드리지 않는다
+     * (조건부 UPDATE라 엔티티 상태는 그대로, 엔티티는 @DynamicUpdate로 바뀐 컬럼만 flush)
+     */
+    private void markDelivered(UserRecommendationSlot slot, boolean writeBack) {
+        if (!writeBack) slotStateMachine.apply(slot.getUserId(), slot.getId(), SlotTransition.DELIVER);
     }
 
     /**
      * 이번 슬롯은 보류: 우선순위 + 1하고 상태를 다시 SCHEDULED로 (다음 기회로 미룸)
      */
-    private void pushBack(UserRecommendationSlot slot) {
+    private void pushBack(UserRecommendationSlot slot, boolean fromQueue) {
+        metrics.pushBack(slot.getContentType());
         slot.setPriority(slot.getPriority() + 1);
         slot.setStatus(SlotStatus.SCHEDULED);
+        if (fromQueue) slotReadyQueue.release(slot);
+    }
+
+    /**
+     * 바인딩된 팩트가 그대로 전달 가능하면 반환 (존재 + 아직 안 봄), 아니면 null
+     */
+    private Fact deliverableFact(Long userId, Long factId) {
+        if (factId == null) return null;
+        if (seenContentService.isSeen(userId, ContentType.FACT, factId)) return null;
+        return factRepository.findById(factId).orElse(null);
+    }
+
+    /**
+     * 재바인딩용 안 본 팩트 후보 (팩트 id는 카탈로그 스냅샷, 안 본 것은 비트맵으로 판별)
+     */
+    private final class FactRebindPool {
+        private final Long userId;
+        private final long[] factIds;
+        private final Set<Long> taken = new HashSet<>();
+        private boolean exhausted;
+
+        private FactRebindPool(Long userId) {
+            this.userId = userId;
+            this.factIds = factCatalog.ids();
+        }
+
+        // 이미 다른 슬롯에 나가는 팩트는 고르지 않는다 (번들)
+        private FactRebindPool exclude(Collection<Long> factIds) {
+            taken.addAll(factIds);
+            return this;
+        }
+
+        private Fact next() {
+            for (int i = 0; i < MAX_DELIVERY_ATTEMPTS; i++) {
+                Optional<Long> factId = seenContentService.pickUnseen(userId, ContentType.FACT, factIds);
+                if (factId.isEmpty()) {
+                    exhausted = true;
+                    return null;
+                }
+                if (!taken.add(factId.get())) continue;
+                // 목록 로드 이후 삭제됐을 수 있으니 실제 존재 확인
+                var fact = factRepository.findById(factId.get());
+                if (fact.isPresent()) return fact.get();
+            }
+            return null;
+        }
+
+        private boolean isExhausted() {
+            return exhausted;
+        }
+    }
+
+    /**
+     * 뉴스 슬롯이 바뀌면 유저 피드 버전을 올린다 → 캐시된 피드 페이지는 다음 조회에서 미스
+     */
+    private void touchFeed(UserRecommendationSlot slot) {
+        if (slot.getContentType() == ContentType.NEWS) newsFeedCache.bump(slot.getUserId());
+    }
+
+    // 이미 풀어본 퀴즈로 슬롯을 만들면 처음부터 attempted로 (퀴즈 목록 정렬 기준)
+    private boolean isAttemptedQuiz(RecommendationUpsertRequestDto request) {
+        return request.getQuizId() != null
+                && seenContentService.isSeen(request.getUserId(), ContentType.QUIZ, request.getQuizId());
+    }
+
+    /**
+     * 번들용: 대기열에서 최대 count건을 꺼낸 뒤 PK IN 조회 1번으로 아직 SCHEDULED인 슬롯만 남긴다
+     */
+    private List<UserRecommendationSlot> claimManyFromQueue(Long userId, ContentType contentType,
+                                                            LocalDateTime windowStart, LocalDateTime windowEnd, int count) {
+        List<Long> slotIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Optional<Long> slotId = slotReadyQueue.claim(userId, contentType, windowStart, windowEnd);
+            if (slotId.isEmpty()) break;
+            slotIds.add(slotId.get());
+        }
+        if (slotIds.isEmpty()) return List.of();
+
+        return slotRepository.findAllById(slotIds).stream()
+                .filter(slot -> slot.getStatus() == SlotStatus.SCHEDULED)
+                .sorted(Comparator.comparingInt(UserRecommendationSlot::getPriority).thenComparing(UserRecommendationSlot::getId))
+                .toList();
+    }
+
+    private static List<Long> contentIds(List<UserRecommendationSlot> slots, ContentType contentType) {
+        return slots.stream()
+                .filter(slot -> slot.getContentType() == contentType)
+                .map(UserRecommendationSlot::getContentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static RecommendationPayloadResponseDto newsPayload(UserRecommendationSlot slot, NewsPayloadDto news) {
+        return RecommendationPayloadResponseDto.builder()
+                .slotId(slot.getId())
+                .contentType(slot.getContentType())
+                .contentId(slot.getNewsId())
+                .slotAt(slot.getSlotAt())
+                .title(news.getTitle())
+                .url(news.getUrl())
+                .extras(Map.of(
+                        "summary", news.getSummary(),
+                        "published_at", news.getPublishedAt(),
+                        "categoryId", news.getCategoryId(),
+                        "categoryName", news.getCategoryName()
+                ))
+                .build();
+    }
+
+    private static RecommendationPayloadResponseDto quizPayload(UserRecommendationSlot slot, QuizPayloadDto quiz) {
+        return RecommendationPayloadResponseDto.builder()
+                .slotId(slot.getId())
+                .contentType(slot.getContentType())
+                .contentId(slot.getQuizId())
+                .slotAt(slot.getSlotAt())
+                .question(quiz.getQuestion())
+                .extras(Map.of(
+                        "title", quiz.getTitle(),
+                        "url", quiz.getUrl(),
+                        "rule", quiz.getRule()
+                ))
+                .build();
+    }
+
+    private static RecommendationPayloadResponseDto factPayload(UserRecommendationSlot slot, Fact fact) {
+        return RecommendationPayloadResponseDto.builder()
+                .slotId(slot.getId())
+                .contentType(slot.getContentType())
+                .contentId(fact.getId())
+                .slotAt(slot.getSlotAt())
+                .title(fact.getTitle())
+                .extras(Map.of("content", fact.getContent(), "url", fact.getUrl()))
+                .build();
     }
 
     private RecommendationPayloadResponseDto buildRecommendationPayload(UserRecommendationSlot slot) {
@@ -0,0 +1,9 @@
+package com.c102.picky.domain.recommendation.service;
+
+import com.c102.picky.domain.recommendation.dto.RecommendationBatchUpsertRequestDto;
+import com.c102.picky.domain.recommendation.dto.RecommendationBatchUpsertResponseDto;
+
+public interface RecommendationSlotBatchService {
+
+    RecommendationBatchUpsertResponseDto upsertSlots(RecommendationBatchUpsertRequestDto request);
+}
@@ -0,0 +1,257 @@
+package com.c102.picky.domain.recommendation.service;
+
+import com.c102.picky.domain.content.service.SeenContentService;
+import com.c102.picky.domain.fact.catalog.FactCatalog;
+import com.c102.picky.domain.recommendation.bloom.RecommendedNewsFilter;
+import com.c102.picky.domain.recommendation.cache.LastSlotTimeCache;
+import com.c102.picky.domain.recommendation.cache.NewsFeedCache;
+import com.c102.picky.domain.recommendation.dto.RecommendationBatchUpsertRequestDto;
+import com.c102.picky.domain.recommendation.dto.RecommendationBatchUpsertResponseDto;
+import com.c102.picky.domain.recommendation.dto.RecommendationBatchUpsertResponseDto.ItemResult;
+import com.c102.picky.domain.recommendation.dto.RecommendationUpsertRequestDto;
+import com.c102.picky.domain.recommendation.event.SlotScheduledEvent;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.planner.DeliveryPlanner;
+import com.c102.picky.domain.recommendation.queue.SlotReadyQueue;
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 슬롯 배치 업서트
+ * <p>
+ * 흐름:
+ * 1) 항목별 바인딩 검증 → (userId, contentType) 그룹핑
+ * 2) 그룹마다 설정 1회 + 슬롯 시간 연속 예약 1회 (단건 업서트와 같은 락)
+ * 3) uq_user_slot_type 기준 INSERT ... ON DUPLICATE KEY UPDATE를 그룹 트랜잭션 안에서 JDBC 배치로 실행
+ * <p>
+ * 그룹 단위로 실패를 격리하며(예외 종류와 무관), 항목별 결과를 요청 순서대로 반환한다.
+ * 같은 slot_at에 이미 배달/종료된 슬롯이 있어 갱신되지 않은 항목은 INVALID_SLOT_TRANSITION으로 보고한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationSlotBatchServiceImpl implements RecommendationSlotBatchService {
+
+    // 단건 upsertSlot과 동일한 규칙: SCHEDULED 슬롯만 갱신하고, 우선순위는 더 높은(작은) 값으로만 교체
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_recommendation_slots
+                (user_id, content_type, news_id, quiz_id, fact_id, slot_at, status, priority, reason, attempted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 'SCHEDULED', ?, ?, ?, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                news_id    = IF(status = 'SCHEDULED', VALUES(news_id), news_id),
+                quiz_id    = IF(status = 'SCHEDULED', VALUES(quiz_id), quiz_id),
+                fact_id    = IF(status = 'SCHEDULED', VALUES(fact_id), fact_id),
+                reason     = IF(status = 'SCHEDULED', VALUES(reason), reason),
+                attempted  = IF(status = 'SCHEDULED', VALUES(attempted), attempted),
+                priority   = IF(status = 'SCHEDULED', LEAST(priority, VALUES(priority)), priority),
+                updated_at = IF(status = 'SCHEDULED', NOW(), updated_at)
+            """;
+
+    // 업서트 후 SCHEDULED가 아닌 채 남은 행 = ON DUPLICATE KEY에서 갱신되지 않은 항목
+    private static final String NOT_UPDATED_SQL = """
+            SELECT slot_at FROM user_recommendation_slots
+            WHERE user_id = ? AND content_type = ? AND status <> 'SCHEDULED' AND slot_at IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FactCatalog factCatalog;
+    private final SeenContentService seenContentService;
+    private final DeliveryPlanner deliveryPlanner;
+    private final SlotReadyQueue slotReadyQueue;
+    private final NewsFeedCache newsFeedCache;
+    private final RecommendedNewsFilter recommendedNewsFilter;
+    private final LastSlotTimeCache lastSlotTimeCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public RecommendationBatchUpsertResponseDto upsertSlots(RecommendationBatchUpsertRequestDto request) {
+        List<RecommendationUpsertRequestDto> items = request.getItems();
+        ItemResult[] results = new ItemResult[items.size()];
+
+        // 1) 바인딩 검증 + (userId, contentType) 그룹핑 (요청 순서 유지)
+        Map<GroupKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            RecommendationUpsertRequestDto item = items.get(i);
+            if (!hasValidBinding(item)) {
+                results[i] = failure(i, item, ErrorCode.INVALID_CONTENT_BINDING);
+                continue;
+            }
+            groups.computeIfAbsent(new GroupKey(item.getUserId(), item.getContentType()), k -> new ArrayList<>()).add(i);
+        }
+
+        // 2) 그룹별 업서트 (알림 간격은 유저당 1회, 배달 계획의 메모리 값)
+        Map<Long, Integer> intervals = new HashMap<>();
+        for (Map.Entry<GroupKey, List<Integer>> group : groups.entrySet()) {
+            upsertGroup(group.getKey(), group.getValue(), items, intervals, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(ItemResult::isSuccess).count();
+        return RecommendationBatchUpsertResponseDto.builder()
+                .total(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private void upsertGroup(GroupKey key, List<Integer> indices, List<RecommendationUpsertRequestDto> items,
+                             Map<Long, Integer> intervals, ItemResult[] results) {
+        try {
+            int interval = intervals.computeIfAbsent(key.userId(), deliveryPlanner::notifyInterval);
+
+            // 1) 팩트 바인딩까지 마쳐서 실제로 넣을 항목 확정
+            List<Integer> pending = new ArrayList<>(indices.size());
+            List<Long> factIds = new ArrayList<>(indices.size());
+            for (int index : indices) {
+                RecommendationUpsertRequestDto item = items.get(index);
+
+                Long factId = item.getFactId();
+                if (key.contentType() == ContentType.FACT && factId == null) {
+                    factId = pickFactId(key.userId());
+                    if (factId == null) {   // 팩트가 0개
+                        results[index] = failure(index, item, ErrorCode.RESOURCE_NOT_FOUND);
+                        continue;
+                    }
+                }
+                pending.add(index);
+                factIds.add(factId);
+            }
+            if (pending.isEmpty()) return;
+
+            // 2) 슬롯 시간은 단건 업서트와 같은 락 안에서 한 번에 예약 → 동시 업서트와 같은 slot_at을 받지 않는다
+            List<LocalDateTime> slotTimes = lastSlotTimeCache.reserveSeries(key.userId(), key.contentType(), interval, pending.size());
+
+            List<Object[]> rows = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                RecommendationUpsertRequestDto item = items.get(pending.get(i));
+                rows.add(new Object[]{
+                        key.userId(),
+                        key.contentType().name(),
+                        item.getNewsId(),
+                        item.getQuizId(),
+                        factIds.get(i),
+                        Timestamp.valueOf(slotTimes.get(i)),
+                        item.getPriority() == null ? 5 : item.getPriority(),
+                        item.getReason(),
+                        item.getQuizId() != null
+                                && seenContentService.isSeen(key.userId(), ContentType.QUIZ, item.getQuizId())
+                });
+            }
+
+            // 3) 그룹 단위 트랜잭션 (일부 행만 커밋된 채 전부 실패로 보고하지 않게), 이벤트는 커밋 후 리스너로
+            Set<LocalDateTime> notUpdated = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+                Set<LocalDateTime> skipped = findNotUpdated(key, slotTimes);
+                for (int i = 0; i < pending.size(); i++) {
+                    if (skipped.contains(seconds(slotTimes.get(i)))) continue;
+                    RecommendationUpsertRequestDto item = items.get(pending.get(i));
+                    eventPublisher.publishEvent(new SlotScheduledEvent(null, key.userId(), key.contentType(), slotTimes.get(i),
+                            item.getPriority() == null ? 5 : item.getPriority()));
+                }
+                return skipped;
+            });
+
+            List<Long> scheduledNewsIds = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                int index = pending.get(i);
+                RecommendationUpsertRequestDto item = items.get(index);
+                if (notUpdated.contains(seconds(slotTimes.get(i)))) {
+                    results[index] = failure(index, item, ErrorCode.INVALID_SLOT_TRANSITION);
+                    continue;
+                }
+                if (item.getNewsId() != null) scheduledNewsIds.add(item.getNewsId());
+                results[index] = ItemResult.builder()
+                        .index(index)
+                        .userId(item.getUserId())
+                        .contentType(item.getContentType())
+                        .contentId(contentId(item, factIds.get(i)))
+                        .slotAt(slotTimes.get(i))
+                        .success(true)
+                        .build();
+            }
+
+            // 4) 커밋 이후: 슬롯 id를 모르므로 대기열은 다음 claim 때 MySQL에서 다시 채우게 한다
+            slotReadyQueue.invalidate(key.userId(), key.contentType());
+            if (key.contentType() == ContentType.NEWS) {
+                newsFeedCache.bump(key.userId());
+                recommendedNewsFilter.add(key.userId(), scheduledNewsIds);
+            }
+        } catch (ApiException e) {
+            failRemaining(indices, items, results, e.getErrorCode());
+        } catch (RuntimeException e) {
+            // DB 오류뿐 아니라 슬롯 시간 예약 실패 등도 이 그룹만 실패 처리 → 앞서 커밋된 그룹의 결과는 그대로 응답
+            log.warn("batch upsert failed userId={}, type={}, items={}", key.userId(), key.contentType(), indices.size(), e);
+            failRemaining(indices, items, results, ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Set<LocalDateTime> findNotUpdated(GroupKey key, List<LocalDateTime> slotTimes) {
+        String in = String.join(",", Collections.nCopies(slotTimes.size(), "?"));
+        List<Object> args = new ArrayList<>(slotTimes.size() + 2);
+        args.add(key.userId());
+        args.add(key.contentType().name());
+        slotTimes.forEach(at -> args.add(Timestamp.valueOf(at)));
+        return new HashSet<>(jdbcTemplate.query(NOT_UPDATED_SQL.formatted(in),
+                (rs, i) -> seconds(rs.getTimestamp(1).toLocalDateTime()), args.toArray()));
+    }
+
+    // DB 컬럼 정밀도와 무관하게 비교 (한 그룹의 슬롯 시간은 알림 간격만큼 떨어져 있다)
+    private static LocalDateTime seconds(LocalDateTime at) {
+        return at.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    // 안 본 것 우선 랜덤 → 없으면 전체 랜덤 (단건 upsertSlot과 동일)
+    private Long pickFactId(Long userId) {
+        return seenContentService.pickUnseen(userId, ContentType.FACT, factCatalog.ids())
+                .or(factCatalog::pickAny)
+                .orElse(null);
+    }
+
+    private static boolean hasValidBinding(RecommendationUpsertRequestDto item) {
+        return switch (item.getContentType()) {
+            case NEWS -> item.getNewsId() != null && item.getQuizId() == null;
+            case QUIZ -> item.getQuizId() != null && item.getNewsId() == null;
+            case FACT -> item.getNewsId() == null && item.getQuizId() == null;
+        };
+    }
+
+    private static Long contentId(RecommendationUpsertRequestDto item, Long factId) {
+        return switch (item.getContentType()) {
+            case NEWS -> item.getNewsId();
+            case QUIZ -> item.getQuizId();
+            case FACT -> factId;
+        };
+    }
+
+    private static void failRemaining(List<Integer> indices, List<RecommendationUpsertRequestDto> items,
+                                      ItemResult[] results, ErrorCode errorCode) {
+        for (int index : indices) {
+            if (results[index] == null) results[index] = failure(index, items.get(index), errorCode);
+        }
+    }
+
+    private static ItemResult failure(int index, RecommendationUpsertRequestDto item, ErrorCode errorCode) {
+        return ItemResult.builder()
+                .index(index)
+                .userId(item.getUserId())
+                .contentType(item.getContentType())
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .build();
+    }
+
+    private record GroupKey(Long userId, ContentType contentType) {
+    }
+}
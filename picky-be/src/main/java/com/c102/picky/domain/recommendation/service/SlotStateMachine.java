@@ -0,0 +1,27 @@
+package com.c102.picky.domain.recommendation.service;
+
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 슬롯 상태 전이: 전이마다 조건부 UPDATE 1문장 (엔티티 로딩 / 비관적 락 없음)
+ */
+public interface SlotStateMachine {
+
+    /**
+     * @return 반영 여부 (없는 슬롯 / 남의 슬롯 / 허용되지 않은 출발 상태면 false)
+     */
+    boolean apply(Long userId, Long slotId, SlotTransition transition);
+
+    /**
+     * 같은 전이를 JDBC 배치 1번으로
+     *
+     * @return 반영된 슬롯 id
+     */
+    Set<Long> applyAll(SlotTransition transition, List<Target> targets);
+
+    record Target(Long userId, Long slotId) {
+    }
+}
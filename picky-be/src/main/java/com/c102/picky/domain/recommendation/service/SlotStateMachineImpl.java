@@ -0,0 +1,69 @@
+package com.c102.picky.domain.recommendation.service;
+
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.queue.SlotReadyQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 슬롯 상태 전이
+ * <p>
+ * - 상태 확인과 변경을 WHERE 절에서 한 번에 (id, user_id 소유 확인 + status IN 출발 상태)
+ * - 영향 행 수로 반영 여부 판단 → 동시에 들어온 전이 중 하나만 반영되고 나머지는 0행
+ * - 호출 측 트랜잭션이 있으면 참여, 없으면 문장 단위 자동 커밋
+ * - 출발 상태는 대기열 모드 여부에 따라 기동 시 1번 정한다 ({@link SlotTransition#from(boolean)})
+ */
+@Service
+public class SlotStateMachineImpl implements SlotStateMachine {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<SlotTransition, String> updateSql = new EnumMap<>(SlotTransition.class);
+
+    @Autowired
+    public SlotStateMachineImpl(JdbcTemplate jdbcTemplate, SlotReadyQueue slotReadyQueue) {
+        this(jdbcTemplate, slotReadyQueue.isEnabled());
+    }
+
+    SlotStateMachineImpl(JdbcTemplate jdbcTemplate, boolean readyQueueEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 출발 상태는 enum 상수라 리터럴로 고정 (전이별 쿼리 문자열이 항상 같음)
+        for (SlotTransition transition : SlotTransition.values()) {
+            String from = transition.from(readyQueueEnabled).stream()
+                    .map(SlotStatus::name)
+                    .sorted()
+                    .map(status -> "'" + status + "'")
+                    .collect(Collectors.joining(","));
+            updateSql.put(transition, """
+                    UPDATE user_recommendation_slots
+                       SET status = '%s', updated_at = NOW()
+                     WHERE id = ? AND user_id = ? AND status IN (%s)
+                    """.formatted(transition.target().name(), from));
+        }
+    }
+
+    @Override
+    public boolean apply(Long userId, Long slotId, SlotTransition transition) {
+        return jdbcTemplate.update(updateSql.get(transition), slotId, userId) > 0;
+    }
+
+    @Override
+    public Set<Long> applyAll(SlotTransition transition, List<Target> targets) {
+        if (targets.isEmpty()) return Set.of();
+
+        List<Object[]> args = targets.stream().map(t -> new Object[]{t.slotId(), t.userId()}).toList();
+        int[] counts = jdbcTemplate.batchUpdate(updateSql.get(transition), args);
+
+        Set<Long> applied = new LinkedHashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 행 수를 주지 않는 배치(SUCCESS_NO_INFO)는 반영된 것으로 본다
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) applied.add(targets.get(i).slotId());
+        }
+        return applied;
+    }
+}
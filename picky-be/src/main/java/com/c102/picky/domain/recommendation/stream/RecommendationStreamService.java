@@ -0,0 +1,259 @@
+package com.c102.picky.domain.recommendation.stream;
+
+import com.c102.picky.domain.recommendation.dto.RecommendationPayloadResponseDto;
+import com.c102.picky.domain.recommendation.event.SlotDueEvent;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.planner.DeliveryPlanner;
+import com.c102.picky.domain.recommendation.service.RecommendationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 추천 푸시 채널 (SSE)
+ * <p>
+ * - 확장 프로그램 인스턴스마다 연결 1개 (유저당 여러 개 가능)
+ * - 연결은 서블릿 비동기 요청이라 유휴 상태에서는 스레드를 점유하지 않는다
+ * - 하트비트(comment)로 프록시/로드밸런서 유휴 타임아웃을 막는다
+ * - 이벤트 id = slotId, 재연결 시 Last-Event-ID 이후에 보낸 이벤트를 최근 버퍼에서 다시 보낸다
+ * - 하트비트 / 배달은 전용 스케줄러 스레드에서 (공용 @Scheduled 스레드의 다른 작업을 막지 않게)
+ * - 배달은 DeliveryPlanner가 도래(slotAt <= now)했다고 한 경우에만 (알림 간격 게이트 포함), 폴링 메트릭에는 넣지 않는다
+ * - 선점(DELIVERED)을 먼저 커밋하고 푸시는 커밋 후에 (푸시하는 동안 행 락 / 커넥션을 잡지 않음), 어느 연결도 받지 못하면 SCHEDULED로 되돌린다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationStreamService {
+
+    private static final String EVENT_NAME = "recommendation";
+
+    private final RecommendationService recommendationService;
+    private final DeliveryPlanner deliveryPlanner;
+    private final ThreadPoolTaskScheduler streamScheduler = new ThreadPoolTaskScheduler();
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, ReplayBuffer> recentEvents = new ConcurrentHashMap<>();
+    private final Set<DueTarget> dueTargets = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.recommendation.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.recommendation.stream.replay-size:20}")
+    private int replaySize;
+
+    @Value("${app.recommendation.stream.replay-ttl-ms:300000}")
+    private long replayTtlMs;
+
+    @Value("${app.recommendation.stream.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    @Value("${app.recommendation.stream.dispatch-ms:1000}")
+    private long dispatchMs;
+
+    @Value("${app.recommendation.stream.fallback-dispatch-ms:300000}")
+    private long fallbackDispatchMs;
+
+    @Value("${app.recommendation.stream.scheduler-pool-size:3}")
+    private int schedulerPoolSize;
+
+    @PostConstruct
+    void startScheduler() {
+        streamScheduler.setPoolSize(schedulerPoolSize);
+        streamScheduler.setThreadNamePrefix("recommendation-stream-");
+        streamScheduler.setDaemon(true);
+        streamScheduler.initialize();
+        streamScheduler.scheduleAtFixedRate(this::heartbeat, Duration.ofMillis(heartbeatMs));
+        streamScheduler.scheduleWithFixedDelay(this::dispatchDue, Duration.ofMillis(dispatchMs));
+        streamScheduler.scheduleWithFixedDelay(this::dispatchAllConnected, Duration.ofMillis(fallbackDispatchMs));
+    }
+
+    @PreDestroy
+    void stopScheduler() {
+        streamScheduler.shutdown();
+    }
+
+    /**
+     * 구독: 새 emitter를 등록하고, Last-Event-ID가 있으면 그 이후 이벤트를 다시 보낸다
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 연결 직후 한 번 보내 응답 헤더를 즉시 flush
+        if (!send(userId, emitter, SseEmitter.event().comment("connected"))) return emitter;
+
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replay(userId, emitter, lastEventId);
+        }
+        return emitter;
+    }
+
+    /**
+     * 유저의 모든 연결에 추천을 푸시한다
+     *
+     * @return 한 연결에라도 보냈는지
+     */
+    public boolean push(Long userId, RecommendationPayloadResponseDto payload) {
+        boolean sent = false;
+        for (SseEmitter emitter : emitters.getOrDefault(userId, List.of())) {
+            sent |= send(userId, emitter, toEvent(payload));
+        }
+        if (sent) recentEvents.computeIfAbsent(userId, id -> new ReplayBuffer()).add(payload, replaySize);
+        return sent;
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    /**
+     * 하트비트: 끊긴 연결은 여기서 정리되고, 오래 재연결하지 않은 유저의 재전송 버퍼도 비운다
+     */
+    void heartbeat() {
+        emitters.forEach((userId, list) -> {
+            for (SseEmitter emitter : list) {
+                send(userId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+
+        long expiredBefore = System.currentTimeMillis() - replayTtlMs;
+        recentEvents.entrySet().removeIf(e -> !emitters.containsKey(e.getKey()) && e.getValue().touchedAt < expiredBefore);
+    }
+
+    /**
+     * 타이밍 휠이 알려준 도래 슬롯: 연결된 유저만 배달 대기 목록에 올린다 (휠 스레드에서는 DB 작업을 하지 않는다)
+     */
+    @EventListener
+    public void onSlotDue(SlotDueEvent event) {
+        if (isConnected(event.userId())) {
+            dueTargets.add(new DueTarget(event.userId(), event.contentType()));
+        }
+    }
+
+    /**
+     * 배달 대기 목록의 (유저, 타입)마다 도래한(slotAt <= now) 슬롯을 배달하고 푸시한다
+     */
+    void dispatchDue() {
+        if (dueTargets.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        for (DueTarget target : List.copyOf(dueTargets)) {
+            dueTargets.remove(target);
+            dispatch(target.userId(), target.contentType(), now);
+        }
+    }
+
+    /**
+     * 보정용 전체 점검: 다른 노드에서 업서트되어 이 노드의 휠이 모르는 슬롯을 위해 긴 주기로 한 번씩 훑는다
+     * (유저마다 배달 계획이 고른 타입 하나만, 꺼졌거나 도래 전이면 DB 접근 없이 건너뜀)
+     */
+    void dispatchAllConnected() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long userId : emitters.keySet()) {
+            dispatch(userId, null, now);
+        }
+    }
+
+    /**
+     * @param contentType null이면 배달 계획이 고른 타입
+     */
+    private void dispatch(Long userId, ContentType contentType, LocalDateTime now) {
+        try {
+            DeliveryPlanner.Decision decision = deliveryPlanner.decideForPush(userId, contentType, now);
+            if (!decision.isDeliverable()) return;
+            ContentType type = decision.contentType();
+
+            // 1) 선점 커밋 (자체 트랜잭션) → 2) 커밋 후 푸시 → 3) 어느 연결에도 못 보냈으면 슬롯을 SCHEDULED로 되돌린다
+            var payload = recommendationService.claimForPush(userId, type, deliveryPlanner.windowStart(now), now);
+            if (payload != null) {
+                if (push(userId, payload)) {
+                    // /next와 같은 알림 간격 게이트
+                    deliveryPlanner.recordDelivered(userId, now);
+                } else {
+                    recommendationService.releaseUndelivered(userId, payload.getSlotId());
+                }
+            }
+            deliveryPlanner.invalidate(userId, type);
+        } catch (RuntimeException e) {
+            log.warn("stream dispatch failed userId={}, type={}", userId, contentType, e);
+        }
+    }
+
+    private void replay(Long userId, SseEmitter emitter, String lastEventId) {
+        ReplayBuffer recent = recentEvents.get(userId);
+        if (recent == null) return;
+
+        List<RecommendationPayloadResponseDto> snapshot = recent.snapshot();
+
+        // 버퍼에서 lastEventId 다음부터 전송 (버퍼에 없으면 전부 전송)
+        int from = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (String.valueOf(snapshot.get(i).getSlotId()).equals(lastEventId)) from = i + 1;
+        }
+        for (RecommendationPayloadResponseDto payload : snapshot.subList(from, snapshot.size())) {
+            if (!send(userId, emitter, toEvent(payload))) return;
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(RecommendationPayloadResponseDto payload) {
+        return SseEmitter.event()
+                .id(String.valueOf(payload.getSlotId()))
+                .name(EVENT_NAME)
+                .data(payload, MediaType.APPLICATION_JSON);
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private record DueTarget(Long userId, ContentType contentType) {
+    }
+
+    /**
+     * 유저별 최근 푸시 이벤트 (재연결 시 재전송용)
+     */
+    private static class ReplayBuffer {
+        private final Deque<RecommendationPayloadResponseDto> events = new ArrayDeque<>();
+        private volatile long touchedAt = System.currentTimeMillis();
+
+        synchronized void add(RecommendationPayloadResponseDto payload, int maxSize) {
+            events.addLast(payload);
+            while (events.size() > maxSize) events.removeFirst();
+            touchedAt = System.currentTimeMillis();
+        }
+
+        synchronized List<RecommendationPayloadResponseDto> snapshot() {
+            return new ArrayList<>(events);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.c102.picky.domain.usersettings.event;
+
+/**
+ * 알림 설정(타입 마스크 / 간격 / on-off)이 바뀌었을 때 발행 (커밋 이후 인메모리 배달 계획 무효화용)
+ */
+public record UserSettingsChangedEvent(
+        Long userId
+) {
+}
@@ -7,10 +7,12 @@ import com.c102.picky.domain.usersettings.dto.UserSettingsResponseDto;
 import com.c102.picky.domain.usersettings.dto.UserSettingsUpdateRequestDto;
 import com.c102.picky.domain.usersettings.entity.NotifyType;
 import com.c102.picky.domain.usersettings.entity.UserSettings;
+import com.c102.picky.domain.usersettings.event.UserSettingsChangedEvent;
 import com.c102.picky.domain.usersettings.repository.UserSettingsRepository;
 import com.c102.picky.global.exception.ApiException;
 import com.c102.picky.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UserSettingsServiceImpl implements UserSettingsService {
 
     private final UserSettingsRepository userSettingsRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 설정 조회
@@ -84,6 +87,7 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         }
 
         userSettingsRepository.save(s);
+        eventPublisher.publishEvent(new UserSettingsChangedEvent(userId));
         return UserSettingsResponseDto.from(s);
     }
 }
@@ -1,5 +1,6 @@
 package com.c102.picky.global.config;
 
+import com.c102.picky.global.security.internal.InternalApiTokenFilter;
 import com.c102.picky.global.security.jwt.JwtAuthenticationEntryPoint;
 import com.c102.picky.global.security.jwt.JwtAuthenticationFilter;
 import com.c102.picky.global.security.oauth2.OAuth2LoginFailureHandler;
@@ -28,6 +29,7 @@ import jakarta.servlet.http.HttpServletRequest;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final InternalApiTokenFilter internalApiTokenFilter;
     private final OAuth2LoginSuccessHandler oauth2SuccessHandler;
     private final OAuth2LoginFailureHandler oauth2FailureHandler;
     private final CorsConfigurationSource corsConfigurationSource;
@@ -48,6 +50,8 @@ public class SecurityConfig {
                                 "/auth/**", "/oauth2/**", "/login/oauth2/**", "/extension/oauth2/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/recommendations/slots").permitAll()
+                        // 데이터 엔진 전용 내부 API (X-Internal-Token)
+                        .requestMatchers(InternalApiTokenFilter.PATHS).hasRole(InternalApiTokenFilter.ROLE)
                         .anyRequest().authenticated())
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(entryPoint)
@@ -62,7 +66,8 @@ public class SecurityConfig {
                         .successHandler(oauth2SuccessHandler)
                         .failureHandler(oauth2FailureHandler)
                 )
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(internalApiTokenFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
@@ -1,5 +1,6 @@
 package com.c102.picky.global.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,6 +21,10 @@ public class ApiResponse<T> {
     private String timestamp;
     private String path;
 
+    // 빈 폴링 응답일 때만: 다음 폴링까지 권장 대기 시간(초), Retry-After 헤더와 같은 값
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long retryAfterSeconds;
+
     // 1) 생성 시각과 경로를 자동 채워 주는 편의 팩토리 메서드
     public static <T> ApiResponse<T> of(
             HttpStatus status,
@@ -33,7 +38,26 @@ public class ApiResponse<T> {
                 message,
                 data,
                 LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME),
-                requestPath
+                requestPath,
+                null
+        );
+    }
+
+    // 2) 빈 응답 + 재시도 힌트
+    public static <T> ApiResponse<T> retryAfter(
+            HttpStatus status,
+            String message,
+            String requestPath,
+            long retryAfterSeconds
+    ) {
+        return new ApiResponse<>(
+                true,
+                status.value(),
+                message,
+                null,
+                LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME),
+                requestPath,
+                retryAfterSeconds
         );
     }
 }
@@ -31,8 +31,11 @@ public enum ErrorCode {
 
     // Recommendation 관련 에러
     SLOT_NOT_FOUND("SLOT_NOT_FOUND", HttpStatus.NOT_FOUND, "추천 슬롯을 찾을 수 없습니다."),
+    INVALID_SLOT_TRANSITION("INVALID_SLOT_TRANSITION", HttpStatus.CONFLICT, "현재 슬롯 상태에서는 처리할 수 없는 요청입니다."),
     INVALID_CONTENT_BINDING("INVALID_CONTENT_BINDING", HttpStatus.BAD_REQUEST, "콘텐츠 타입과 ID 바인딩이 올바르지 않습니다."),
     RESOURCE_NOT_FOUND("RESOURCE_NOT_FOUND", HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다."),
+    REQUEST_IN_PROGRESS("REQUEST_IN_PROGRESS", HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED", HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청 본문을 보낼 수 없습니다."),
 
     // Content 관련 에러
     NEWS_NOT_FOUND("NEWS_NOT_FOUND", HttpStatus.NOT_FOUND, "뉴스를 찾을 수 없습니다."),
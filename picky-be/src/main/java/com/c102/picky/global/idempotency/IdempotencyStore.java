@@ -0,0 +1,221 @@
+package com.c102.picky.global.idempotency;
+
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 처리 저장소 (Redis)
+ * <p>
+ * - 키: Idempotency-Key 헤더, 없으면 요청 본문(JSON)의 SHA-256
+ * - 첫 요청이 SETNX로 키를 선점(IN_PROGRESS) → 처리 후 결과 JSON으로 교체 (result-ttl 동안 보관)
+ * - 값 앞에 요청 본문 해시를 같이 저장("{hash}:{IN_PROGRESS | 결과 JSON}") → 같은 키에 다른 본문이면 422 (재생하지 않음)
+ * - 처리 중에는 in-progress-ttl의 1/3마다 TTL을 연장 → 처리가 TTL보다 길어도 선점이 풀리지 않고,
+ *   노드가 죽으면 in-progress-ttl 안에 풀린다
+ * - 같은 키의 재요청은 DB 작업 없이 저장된 결과를 그대로 돌려준다 (처리 중이면 409)
+ * - 처리 실패 시 키를 지워 재시도가 다시 실행되게 한다
+ * - 이벤트 배치처럼 항목별 멱등 id가 있으면 claimAll → completeAll / releaseAll (파이프라인 1번씩)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String PREFIX = "idem:";
+    private static final String IN_PROGRESS = "__IN_PROGRESS__";
+    private static final String DONE = "__DONE__";
+    private static final int HASH_LENGTH = 64;   // SHA-256 hex
+
+    // 아직 처리 중일 때만 연장 (결과로 바뀌었거나 지워졌으면 그대로 둔다)
+    private static final DefaultRedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService leaseRefresher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "idempotency-lease");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Value("${app.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${app.idempotency.result-ttl-minutes:10}")
+    private long resultTtlMinutes;
+
+    /**
+     * @param scope          API 구분 (같은 키라도 API가 다르면 별개)
+     * @param idempotencyKey 헤더 값 (null/blank면 요청 본문 해시 사용)
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> resultType, Supplier<T> action) {
+        String requestHash = hash(request);
+        String key = PREFIX + scope + ":" + (idempotencyKey == null || idempotencyKey.isBlank() ? requestHash : idempotencyKey);
+        String inProgress = requestHash + ":" + IN_PROGRESS;
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, inProgress, Duration.ofSeconds(inProgressTtlSeconds));
+        if (!Boolean.TRUE.equals(acquired)) {
+            Object stored = redisTemplate.opsForValue().get(key);
+            if (stored != null) return replay(scope, String.valueOf(stored), requestHash, resultType);
+            // 그사이 만료/삭제됨 → 이번 요청이 처리
+        }
+
+        T result;
+        ScheduledFuture<?> lease = keepInProgress(key, inProgress);
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            lease.cancel(false);
+            redisTemplate.delete(key);
+            throw e;
+        }
+        lease.cancel(false);
+        redisTemplate.opsForValue().set(key, requestHash + ":" + toJson(result), Duration.ofMinutes(resultTtlMinutes));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRefresher.shutdownNow();
+    }
+
+    /**
+     * 여러 키를 한 번에 선점 (파이프라인 SETNX)
+     *
+     * @return 선점하지 못한 키 → 이미 처리됨(true) / 처리 중(false). 선점한 키는 포함하지 않는다
+     */
+    public Map<String, Boolean> claimAll(String scope, Collection<String> keys) {
+        List<String> ids = List.copyOf(keys);
+        List<Object> acquired = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String id : ids) {
+                    ops.opsForValue().setIfAbsent(PREFIX + scope + ":" + id, IN_PROGRESS, Duration.ofSeconds(inProgressTtlSeconds));
+                }
+                return null;
+            }
+        });
+
+        List<String> taken = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (!Boolean.TRUE.equals(acquired.get(i))) taken.add(ids.get(i));
+        }
+        if (taken.isEmpty()) return Map.of();
+
+        List<Object> stored = redisTemplate.opsForValue().multiGet(taken.stream().map(id -> PREFIX + scope + ":" + id).toList());
+        Map<String, Boolean> duplicates = new HashMap<>();
+        for (int i = 0; i < taken.size(); i++) {
+            Object value = stored == null ? null : stored.get(i);
+            duplicates.put(taken.get(i), value != null && !IN_PROGRESS.equals(String.valueOf(value)));
+        }
+        long replayed = duplicates.values().stream().filter(Boolean::booleanValue).count();
+        meterRegistry.counter("idempotency.duplicate", "scope", scope, "outcome", "replayed").increment(replayed);
+        meterRegistry.counter("idempotency.duplicate", "scope", scope, "outcome", "in_progress").increment(duplicates.size() - replayed);
+        return duplicates;
+    }
+
+    /**
+     * claimAll로 선점한 키를 처리 완료로 표시 (ttl 동안 재요청은 중복 처리)
+     */
+    public void completeAll(String scope, Collection<String> keys, Duration ttl) {
+        if (keys.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String key : keys) ops.opsForValue().set(PREFIX + scope + ":" + key, DONE, ttl);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 처리 실패 시 선점 해제 → 재시도가 다시 처리
+     */
+    public void releaseAll(String scope, Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        redisTemplate.delete(keys.stream().map(key -> PREFIX + scope + ":" + key).toList());
+    }
+
+    private ScheduledFuture<?> keepInProgress(String key, String inProgress) {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(inProgressTtlSeconds);
+        long periodMillis = Math.max(1, ttlMillis / 3);
+        return leaseRefresher.scheduleAtFixedRate(() -> {
+            try {
+                redisTemplate.execute(REFRESH_SCRIPT, List.of(key), inProgress, String.valueOf(ttlMillis));
+            } catch (RuntimeException e) {
+                log.warn("idempotency in-progress refresh failed key={}", key, e);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T replay(String scope, String stored, String requestHash, Class<T> resultType) {
+        // 해시 없는 값은 이전 형식 (result-ttl 안에 사라지므로 비교 없이 재생)
+        if (stored.indexOf(':') == HASH_LENGTH) {
+            // 키는 같은데 본문이 다르면 클라이언트의 키 재사용 오류 → 첫 결과를 돌려주지 않는다
+            if (!stored.startsWith(requestHash)) {
+                meterRegistry.counter("idempotency.duplicate", "scope", scope, "outcome", "mismatch").increment();
+                throw new ApiException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            stored = stored.substring(HASH_LENGTH + 1);
+        }
+
+        if (IN_PROGRESS.equals(stored)) {
+            meterRegistry.counter("idempotency.duplicate", "scope", scope, "outcome", "in_progress").increment();
+            throw new ApiException(ErrorCode.REQUEST_IN_PROGRESS);
+        }
+        meterRegistry.counter("idempotency.duplicate", "scope", scope, "outcome", "replayed").increment();
+        try {
+            return objectMapper.readValue(stored, resultType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("idempotency result is not readable", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("idempotency value is not serializable", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.c102.picky.global.security.internal;
+
+import com.c102.picky.global.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 내부 API 인증 (데이터 엔진 → 백엔드)
+ * <p>
+ * - 내부 경로는 X-Internal-Token 헤더가 app.internal.token과 같을 때만 ROLE_INTERNAL로 인증
+ * - 토큰이 없거나 다르면 401 (설정이 비어 있으면 항상 거부)
+ */
+@Component
+@RequiredArgsConstructor
+public class InternalApiTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+    public static final String ROLE = "INTERNAL";
+    public static final String[] PATHS = {"/api/recommendations/slots/batch", "/api/recommendations/candidates", "/api/recommendations/news/unseen"};
+
+    private final AuthenticationEntryPoint entryPoint;
+
+    @Value("${app.internal.token:}")
+    private String token;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!matches(request.getHeader(HEADER))) {
+            SecurityContextHolder.clearContext();
+            request.setAttribute("errorCode", ErrorCode.INVALID_TOKEN);
+            entryPoint.commence(request, response, new BadCredentialsException("invalid internal token"));
+            return;
+        }
+
+        var auth = new UsernamePasswordAuthenticationToken("internal", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE)));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !List.of(PATHS).contains(request.getRequestURI());
+    }
+
+    private boolean matches(String provided) {
+        if (token == null || token.isBlank() || provided == null) return false;
+        // 상수 시간 비교
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), provided.getBytes(StandardCharsets.UTF_8));
+    }
+}
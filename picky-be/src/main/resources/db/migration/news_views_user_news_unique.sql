@@ -0,0 +1,26 @@
+-- news_views (user_id, news_id) 유니크 인덱스 (1회 수동 실행)
+--
+-- 열람 기록은 유저·뉴스당 첫 1건만 남긴다. 조회 후 삽입(existsBy… / SELECT … IN) 대신
+-- INSERT IGNORE가 이 인덱스로 중복을 거른다 → 동시 요청이 같은 뉴스를 두 번 기록하지 않는다.
+
+-- 1. 기존 중복 정리: 유저·뉴스별 가장 이른 행(id 최소)만 남긴다
+--    행이 많으면 user_id 범위를 나눠 여러 번 실행한다
+DELETE nv
+  FROM news_views nv
+  JOIN (SELECT user_id, news_id, MIN(id) AS keep_id
+          FROM news_views
+         GROUP BY user_id, news_id
+        HAVING COUNT(*) > 1) d
+    ON d.user_id = nv.user_id AND d.news_id = nv.news_id
+ WHERE nv.id <> d.keep_id;
+
+-- 2. 유니크 인덱스
+ALTER TABLE news_views
+    ADD UNIQUE INDEX uq_news_views_user_news (user_id, news_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 확인
+-- 기대: 두 번째 INSERT IGNORE는 affected rows = 0 (warning 1062)
+-- INSERT IGNORE INTO news_views (user_id, news_id, viewed_at, created_at) VALUES (1, 1, NOW(), NOW());
+-- INSERT IGNORE INTO news_views (user_id, news_id, viewed_at, created_at) VALUES (1, 1, NOW(), NOW());
+SHOW INDEX FROM news_views WHERE Key_name = 'uq_news_views_user_news';
@@ -0,0 +1,37 @@
+-- user_recommendation_slots.attempted 컬럼 추가 + 백필 (1회 수동 실행)
+--
+-- 퀴즈 목록(findQuizSlotsForWindow)은 QuizAttempt LEFT JOIN + GROUP BY + count CASE 정렬 대신
+-- attempted 플래그로 idx_user_type_status_attempted 인덱스를 순서대로 읽는다.
+-- 이후 값은 애플리케이션이 유지한다 (정답 제출 시 UserRecommendationSlotRepository.markQuizzesAttempted, 슬롯 업서트 시 기존 시도 여부 반영)
+
+ALTER TABLE user_recommendation_slots
+    ADD COLUMN attempted TINYINT(1) NOT NULL DEFAULT 0,
+    ADD INDEX idx_user_type_status_attempted (user_id, content_type, status, attempted, priority, slot_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 아카이브 테이블도 같은 컬럼 (SlotArchiveJob이 그대로 옮긴다)
+ALTER TABLE user_recommendation_slots_archive
+    ADD COLUMN attempted TINYINT(1) NOT NULL DEFAULT 0,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 백필: 이미 시도한 퀴즈가 바인딩된 QUIZ 슬롯 (SCHEDULED만 목록에 쓰이므로 그것만)
+-- 슬롯이 많으면 user_id 범위를 나눠 여러 번 실행한다
+UPDATE user_recommendation_slots s
+    JOIN (SELECT DISTINCT user_id, quiz_id FROM quiz_attempts) qa
+      ON qa.user_id = s.user_id AND qa.quiz_id = s.quiz_id
+   SET s.attempted = 1
+ WHERE s.content_type = 'QUIZ'
+   AND s.status = 'SCHEDULED'
+   AND s.attempted = 0;
+
+-- 확인
+-- 기대: key = idx_user_type_status_attempted, type = ref, Extra에 "Using filesort"/"Using temporary" 없음
+EXPLAIN
+SELECT *
+  FROM user_recommendation_slots s
+ WHERE s.user_id = 1
+   AND s.content_type = 'QUIZ'
+   AND s.status = 'SCHEDULED'
+   AND s.quiz_id IS NOT NULL
+ ORDER BY s.attempted, s.priority, s.slot_at
+ LIMIT 5;
@@ -0,0 +1,28 @@
+-- 뉴스 피드 keyset(/feed/cursor) 정렬 인덱스 (1회 수동 실행, MySQL 8 내림차순 인덱스)
+--
+-- PRIORITY(priority ASC, slot_at DESC, id DESC)와 MIXED(slot_at DESC, priority ASC, id DESC)는 방향이 섞여 있어
+-- 오름차순 인덱스로는 filesort가 난다. 정렬 방향 그대로의 인덱스를 두어 seek 쿼리가 인덱스 순서로 LIMIT만큼만 읽게 한다.
+-- LATEST(slot_at DESC, id DESC)는 uq_user_slot_type / idx_archive_user_type_slot 역방향 스캔으로 충분하다.
+
+ALTER TABLE user_recommendation_slots
+    DROP INDEX idx_user_type_priority_slot,
+    ADD INDEX idx_user_type_priority_slot (user_id, content_type, priority, slot_at DESC, id DESC),
+    ADD INDEX idx_user_type_slot_priority (user_id, content_type, slot_at DESC, priority, id DESC),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE user_recommendation_slots_archive
+    ADD INDEX idx_archive_user_type_priority_slot (user_id, content_type, priority, slot_at DESC, id DESC),
+    ADD INDEX idx_archive_user_type_slot_priority (user_id, content_type, slot_at DESC, priority, id DESC),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 확인 (MIXED 커서 페이지)
+-- 기대: key = idx_user_type_slot_priority, type = range, Extra에 "Using filesort" 없음
+EXPLAIN
+SELECT s.id
+  FROM user_recommendation_slots s
+ WHERE s.user_id = 1
+   AND s.content_type = 'NEWS'
+   AND s.slot_at <= '2025-01-01 00:00:00'
+   AND (s.slot_at < '2025-01-01 00:00:00' OR s.priority > 3 OR (s.priority = 3 AND s.id < 100))
+ ORDER BY s.slot_at DESC, s.priority, s.id DESC
+ LIMIT 11;
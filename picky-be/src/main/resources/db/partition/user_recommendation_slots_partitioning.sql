@@ -0,0 +1,23 @@
+-- user_recommendation_slots 월 단위 RANGE 파티션 전환 (1회 수동 실행)
+--
+-- 전제
+--  - MySQL 파티션 키(slot_at)는 모든 PK/UNIQUE 키에 포함돼야 한다
+--    * uq_user_slot_type (user_id, content_type, slot_at) : 이미 포함
+--    * PRIMARY KEY (id) -> (id, slot_at) 로 변경 (id는 AUTO_INCREMENT라 인덱스 첫 컬럼이어야 함 -> 만족)
+--  - 파티션 테이블은 외래키를 가질 수 없다 (현재 FK 없음)
+--  - 전환 후에는 SlotPartitionMaintainer(app.recommendation.partition.enabled=true)가
+--    앞으로의 월 파티션 추가 / 비워진 오래된 파티션 삭제를 담당한다
+--
+-- 실행 전 pold의 경계를 "전환하는 달의 1일"로 맞춘다 (아래는 2026-10 기준)
+
+ALTER TABLE user_recommendation_slots
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, slot_at);
+
+ALTER TABLE user_recommendation_slots
+    PARTITION BY RANGE (TO_DAYS(slot_at)) (
+        PARTITION pold    VALUES LESS THAN (TO_DAYS('2026-10-01')),
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+        PARTITION pmax    VALUES LESS THAN MAXVALUE
+    );
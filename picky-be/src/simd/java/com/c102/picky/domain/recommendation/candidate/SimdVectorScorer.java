@@ -0,0 +1,63 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector 구현 (CPU가 지원하는 최대 폭 레인, FMA 누적)
+ * <p>
+ * 이 클래스는 모듈이 있을 때만 로드된다 ({@link VectorScorers} 참고)
+ * <p>
+ * 인큐베이터 API라 별도 소스셋(src/simd)에서 모듈을 붙여 컴파일한다 → 메인 컴파일에는 모듈 / 인큐베이터 경고가 없다
+ */
+final class SimdVectorScorer implements VectorScorer {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(length);
+        for (; i < upper; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) sum += a[aOffset + i] * b[bOffset + i];
+        return sum;
+    }
+
+    @Override
+    public void cosineAll(float[] query, float[] matrix, int dim, int count, float[] out) {
+        float queryNorm = (float) Math.sqrt(dot(query, 0, query, 0, dim));
+        int upper = SPECIES.loopBound(dim);
+        for (int row = 0; row < count; row++) {
+            int offset = row * dim;
+            FloatVector dotAcc = FloatVector.zero(SPECIES);
+            FloatVector normAcc = FloatVector.zero(SPECIES);
+            int i = 0;
+            for (; i < upper; i += SPECIES.length()) {
+                FloatVector q = FloatVector.fromArray(SPECIES, query, i);
+                FloatVector v = FloatVector.fromArray(SPECIES, matrix, offset + i);
+                dotAcc = q.fma(v, dotAcc);
+                normAcc = v.fma(v, normAcc);
+            }
+            float dot = dotAcc.reduceLanes(VectorOperators.ADD);
+            float norm = normAcc.reduceLanes(VectorOperators.ADD);
+            for (; i < dim; i++) {
+                float v = matrix[offset + i];
+                dot += query[i] * v;
+                norm += v * v;
+            }
+            out[row] = ScalarVectorScorer.cosine(dot, queryNorm, norm);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "simd-" + SPECIES.vectorBitSize();
+    }
+}
@@ -0,0 +1,171 @@
+package com.c102.picky.domain.recommendation.ack;
+
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.service.SlotStateMachine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ack write-behind 버퍼 재시도 정책 (DB 없이, 상태 전이는 가짜 SlotStateMachine으로 기록)
+ * - flush는 flush-size 단위 배치로 반영하고 버퍼를 비운다
+ * - 일시 장애는 시도 횟수에 세지 않고 다시 적재, 그 외 실패는 max-attempts번 뒤 dead-letter
+ * - 배치 안의 독성 ack 1건이 나머지 ack를 막지 않는다
+ * - 종료 시 남은 ack를 모두 반영
+ */
+class AckWriteBehindBufferTest {
+
+    private static final int FLUSH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private FakeStateMachine stateMachine;
+    private SimpleMeterRegistry meterRegistry;
+    private AckWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        stateMachine = new FakeStateMachine();
+        meterRegistry = new SimpleMeterRegistry();
+        // 가짜 상태 머신은 반영 결과를 비워 돌려준다 → 팩트 조회 / fact_views / 캐시 단계는 타지 않는다
+        buffer = new AckWriteBehindBuffer(null, new TransactionTemplate(new NoOpTransactionManager()), stateMachine,
+                null, null, meterRegistry, 100);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        // 적재 중에는 크기 트리거(백그라운드 flush)가 돌지 않게 크게 두고, flush는 테스트 스레드에서만
+        ReflectionTestUtils.setField(buffer, "flushSize", 100);
+        ReflectionTestUtils.setField(buffer, "maxAttempts", MAX_ATTEMPTS);
+    }
+
+    @Test
+    void flushWritesBufferedAcksInBatches() {
+        buffer.offer(1L, 10L, SlotStatus.SEEN);
+        buffer.offer(1L, 11L, SlotStatus.SEEN);
+        buffer.offer(2L, 20L, SlotStatus.DISMISSED);
+        ReflectionTestUtils.setField(buffer, "flushSize", FLUSH_SIZE);
+
+        buffer.flush();
+
+        assertThat(stateMachine.applied).containsExactlyInAnyOrder(10L, 11L, 20L);
+        assertThat(stateMachine.batchSizes).containsExactly(2, 1);
+        assertThat(buffered()).isZero();
+    }
+
+    @Test
+    void transientFailureIsRequeuedWithoutCountingAttempts() {
+        int[] failures = {MAX_ATTEMPTS + 1};
+        stateMachine.failure = targets -> failures[0]-- > 0 ? new QueryTimeoutException("lock wait timeout") : null;
+        buffer.offer(1L, 10L, SlotStatus.SEEN);
+
+        for (int i = 0; i <= MAX_ATTEMPTS; i++) {
+            buffer.flush();
+            assertThat(buffered()).isEqualTo(1);
+        }
+        buffer.flush();
+
+        assertThat(stateMachine.applied).containsExactly(10L);
+        assertThat(buffered()).isZero();
+        assertThat(deadLettered()).isZero();
+    }
+
+    @Test
+    void nonTransientFailureIsDeadLetteredAfterMaxAttempts() {
+        stateMachine.failure = targets -> new DataIntegrityViolationException("bad ack");
+        buffer.offer(1L, 10L, SlotStatus.SEEN);
+
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            buffer.flush();
+            assertThat(buffered()).isEqualTo(1);
+            assertThat(deadLettered()).isZero();
+        }
+        buffer.flush();
+
+        assertThat(buffered()).isZero();
+        assertThat(deadLettered()).isEqualTo(1);
+        assertThat(stateMachine.applied).isEmpty();
+    }
+
+    @Test
+    void poisonAckDoesNotBlockTheRestOfTheBatch() {
+        stateMachine.failure = targets -> targets.stream().anyMatch(t -> t.slotId() == 13L)
+                ? new DataIntegrityViolationException("bad ack") : null;
+        buffer.offer(1L, 12L, SlotStatus.SEEN);
+        buffer.offer(1L, 13L, SlotStatus.SEEN);
+
+        buffer.flush();
+
+        assertThat(stateMachine.applied).containsExactly(12L);
+        assertThat(buffered()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownFlushesRemainingAcks() {
+        buffer.offer(1L, 10L, SlotStatus.SEEN);
+
+        buffer.shutdown();
+
+        assertThat(stateMachine.applied).containsExactly(10L);
+        assertThat(buffered()).isZero();
+    }
+
+    private double buffered() {
+        return meterRegistry.get("recommendation.ack.buffered").gauge().value();
+    }
+
+    private double deadLettered() {
+        return meterRegistry.get("recommendation.ack.dead_lettered").counter().count();
+    }
+
+    /**
+     * 반영한 슬롯 id만 기록 (failure가 예외를 주면 그 배치는 실패)
+     */
+    private static final class FakeStateMachine implements SlotStateMachine {
+        private final Set<Long> applied = Collections.synchronizedSet(new LinkedHashSet<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private volatile Function<List<Target>, RuntimeException> failure = targets -> null;
+
+        @Override
+        public boolean apply(Long userId, Long slotId, SlotTransition transition) {
+            return !applyAll(transition, List.of(new Target(userId, slotId))).isEmpty();
+        }
+
+        @Override
+        public Set<Long> applyAll(SlotTransition transition, List<Target> targets) {
+            RuntimeException e = failure.apply(targets);
+            if (e != null) throw e;
+            batchSizes.add(targets.size());
+            targets.forEach(target -> applied.add(target.slotId()));
+            return Set.of();
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
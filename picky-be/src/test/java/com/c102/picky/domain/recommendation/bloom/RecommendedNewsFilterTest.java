@@ -0,0 +1,74 @@
+package com.c102.picky.domain.recommendation.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블룸 필터 오프셋 / 비트 판정 검증 (Redis 없이)
+ * - allSet은 Redis SETBIT와 같은 비트 순서(바이트 내 최상위 비트가 offset 0)로 읽어야 한다
+ * - 추가한 뉴스는 항상 포함으로 판정 (미탐 없음), 오탐률은 설정값 기준 기대치 이내
+ */
+class RecommendedNewsFilterTest {
+
+    private static final int BITS = 4096;
+    private static final int HASHES = 7;
+
+    @Test
+    void readsBitsInRedisSetbitOrder() {
+        // SETBIT key 0 1 → "\x80", SETBIT key 7 1 → "\x01", SETBIT key 8 1 → "\x00\x80"
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{(byte) 0x80}, new long[]{0})).isTrue();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{(byte) 0x80}, new long[]{7})).isFalse();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{0x01}, new long[]{7})).isTrue();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{0x01}, new long[]{0})).isFalse();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{0x00, (byte) 0x80}, new long[]{8})).isTrue();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{(byte) 0x80, 0x01}, new long[]{0, 15})).isTrue();
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{(byte) 0x80, 0x01}, new long[]{0, 14})).isFalse();
+    }
+
+    @Test
+    void offsetBeyondBitmapIsNotSet() {
+        // Redis GET은 마지막으로 켜진 바이트까지만 돌려준다
+        assertThat(RecommendedNewsFilter.allSet(new byte[]{(byte) 0xFF}, new long[]{8})).isFalse();
+        assertThat(RecommendedNewsFilter.allSet(new byte[0], new long[]{0})).isFalse();
+    }
+
+    @Test
+    void offsetsAreDeterministicAndInRange() {
+        for (long newsId = 0; newsId < 10_000; newsId++) {
+            long[] offsets = RecommendedNewsFilter.offsets(newsId, BITS, HASHES);
+            assertThat(offsets).hasSize(HASHES);
+            for (long offset : offsets) assertThat(offset).isBetween(0L, BITS - 1L);
+            assertThat(RecommendedNewsFilter.offsets(newsId, BITS, HASHES)).containsExactly(offsets);
+        }
+        for (long offset : RecommendedNewsFilter.offsets(Long.MAX_VALUE, BITS, HASHES)) {
+            assertThat(offset).isBetween(0L, BITS - 1L);
+        }
+    }
+
+    @Test
+    void addedNewsIsAlwaysContainedAndFalsePositivesStayRare() {
+        int members = 100;
+        byte[] bitmap = new byte[BITS / 8];
+        for (long newsId = 1; newsId <= members; newsId++) {
+            for (long offset : RecommendedNewsFilter.offsets(newsId, BITS, HASHES)) setBit(bitmap, offset);
+        }
+
+        for (long newsId = 1; newsId <= members; newsId++) {
+            assertThat(RecommendedNewsFilter.allSet(bitmap, RecommendedNewsFilter.offsets(newsId, BITS, HASHES))).isTrue();
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long newsId = 1_000_000; newsId < 1_000_000 + probes; newsId++) {
+            if (RecommendedNewsFilter.allSet(bitmap, RecommendedNewsFilter.offsets(newsId, BITS, HASHES))) falsePositives++;
+        }
+        // 기대 오탐률 (1 - e^(-kn/m))^k ≈ 2e-6
+        assertThat((double) falsePositives / probes).isLessThan(0.001);
+    }
+
+    // Redis SETBIT과 같은 배치: offset / 8번째 바이트의 (7 - offset % 8)번 비트
+    private static void setBit(byte[] bitmap, long offset) {
+        bitmap[(int) (offset / 8)] |= (byte) (1 << (7 - offset % 8));
+    }
+}
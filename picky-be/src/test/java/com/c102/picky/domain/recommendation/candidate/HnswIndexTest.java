@@ -0,0 +1,137 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HnswIndexTest {
+
+    private static final int DIM = 64;
+    private static final int SIZE = 5_000;
+    private static final int K = 10;
+
+    @Test
+    void recallAgainstBruteForceIsHigh() {
+        Random random = new Random(7);
+        float[][] vectors = randomVectors(random, SIZE);
+        HnswIndex index = build(vectors);
+
+        int queries = 100;
+        int hits = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Long> truth = bruteForceTopK(vectors, query, K, id -> true);
+            for (HnswIndex.Result result : index.search(query, K, 100, null)) {
+                if (truth.contains(result.id())) hits++;
+            }
+        }
+
+        double recall = (double) hits / (queries * K);
+        assertThat(recall).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    void filteredSearchOnlyReturnsAcceptedIdsWithHighRecall() {
+        Random random = new Random(11);
+        float[][] vectors = randomVectors(random, SIZE);
+        HnswIndex index = build(vectors);
+
+        int queries = 50;
+        int hits = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Long> truth = bruteForceTopK(vectors, query, K, id -> id % 3 != 0);
+            List<HnswIndex.Result> results = index.search(query, K, 200, id -> id % 3 != 0);
+
+            assertThat(results).hasSize(K).allMatch(result -> result.id() % 3 != 0);
+            for (HnswIndex.Result result : results) {
+                if (truth.contains(result.id())) hits++;
+            }
+        }
+
+        assertThat((double) hits / (queries * K)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void resultsAreSortedBySimilarity() {
+        Random random = new Random(3);
+        HnswIndex index = build(randomVectors(random, 500));
+
+        List<HnswIndex.Result> results = index.search(randomVector(random), 20, 50, null);
+
+        assertThat(results).hasSize(20);
+        for (int i = 1; i < results.size(); i++) {
+            assertThat(results.get(i - 1).score()).isGreaterThanOrEqualTo(results.get(i).score());
+        }
+    }
+
+    @Test
+    void exactVectorIsItsOwnNearestNeighbor() {
+        Random random = new Random(5);
+        float[][] vectors = randomVectors(random, 1_000);
+        HnswIndex index = build(vectors);
+
+        for (int i = 0; i < vectors.length; i += 97) {
+            HnswIndex.Result top = index.search(vectors[i], 1, 50, null).get(0);
+            assertThat(top.id()).isEqualTo(i);
+            assertThat(top.score()).isCloseTo(1f, within(1e-4f));
+        }
+    }
+
+    @Test
+    void emptyIndexAndDimensionMismatch() {
+        HnswIndex index = new HnswIndex(DIM, 16, 100, 0, 1);
+        assertThat(index.search(new float[DIM], K, 50, null)).isEmpty();
+
+        index.add(1, new float[DIM]);
+        assertThatThrownBy(() -> index.add(2, new float[DIM + 1])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(new float[DIM - 1], K, 50, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HnswIndex build(float[][] vectors) {
+        HnswIndex index = new HnswIndex(DIM, 16, 100, vectors.length, 42);
+        for (int i = 0; i < vectors.length; i++) index.add(i, vectors[i]);
+        return index;
+    }
+
+    private static Set<Long> bruteForceTopK(float[][] vectors, float[] query, int k, LongPredicate filter) {
+        List<long[]> ranked = new ArrayList<>();
+        double[] scores = new double[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            if (!filter.test(i)) continue;
+            scores[i] = cosine(query, vectors[i]);
+            ranked.add(new long[]{i});
+        }
+        ranked.sort((a, b) -> Double.compare(scores[(int) b[0]], scores[(int) a[0]]));
+        Set<Long> top = new HashSet<>();
+        for (int i = 0; i < k && i < ranked.size(); i++) top.add(ranked.get(i)[0]);
+        return top;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+
+    private static float[][] randomVectors(Random random, int count) {
+        float[][] vectors = new float[count][];
+        for (int i = 0; i < count; i++) vectors[i] = randomVector(random);
+        return vectors;
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIM];
+        for (int d = 0; d < DIM; d++) vector[d] = (float) random.nextGaussian();
+        return vector;
+    }
+}
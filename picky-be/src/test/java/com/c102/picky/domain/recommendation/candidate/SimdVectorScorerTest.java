@@ -0,0 +1,103 @@
+package com.c102.picky.domain.recommendation.candidate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * SIMD 구현이 스칼라 구현과 같은 점수를 내는지 (./gradlew simdTest, jdk.incubator.vector 모듈 필요)
+ * - 레인 폭의 배수가 아닌 차원(꼬리 루프)과 오프셋 포함
+ * - 합산 순서 차이만큼의 float 오차만 허용
+ */
+@Tag("simd")
+class SimdVectorScorerTest {
+
+    private static final VectorScorer scalar = VectorScorers.scalar();
+    private static VectorScorer simd;
+
+    @BeforeAll
+    static void loadSimd() {
+        simd = VectorScorers.simd().orElse(null);
+        assumeTrue(simd != null, "jdk.incubator.vector module is not present");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 8, 15, 16, 17, 31, 33, 64, 100, 384, 768, 1536})
+    void dotMatchesScalar(int dim) {
+        Random random = new Random(dim);
+        float[] a = randomVector(random, dim + 5);
+        float[] b = randomVector(random, dim + 3);
+
+        for (int[] offsets : new int[][]{{0, 0}, {5, 3}, {2, 1}}) {
+            float expected = scalar.dot(a, offsets[0], b, offsets[1], dim);
+            float actual = simd.dot(a, offsets[0], b, offsets[1], dim);
+            assertThat(actual).isCloseTo(expected, within(tolerance(a, offsets[0], b, offsets[1], dim)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 16, 17, 63, 384, 1536})
+    void cosineAllMatchesScalar(int dim) {
+        Random random = new Random(31L * dim);
+        int count = 50;
+        float[] query = randomVector(random, dim);
+        float[] matrix = randomVector(random, dim * count);
+        // 영벡터 행은 0점
+        Arrays.fill(matrix, 0, dim, 0f);
+
+        float[] expected = new float[count];
+        float[] actual = new float[count];
+        scalar.cosineAll(query, matrix, dim, count, expected);
+        simd.cosineAll(query, matrix, dim, count, actual);
+
+        assertThat(actual[0]).isZero();
+        for (int row = 0; row < count; row++) {
+            assertThat(actual[row]).isCloseTo(expected[row], within(1e-5f));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 1536})
+    void rankingMatchesScalar(int dim) {
+        Random random = new Random(dim + 1L);
+        int count = 1_000;
+        float[] query = randomVector(random, dim);
+        float[] matrix = randomVector(random, dim * count);
+
+        float[] expected = new float[count];
+        float[] actual = new float[count];
+        scalar.cosineAll(query, matrix, dim, count, expected);
+        simd.cosineAll(query, matrix, dim, count, actual);
+
+        assertThat(argMax(actual)).isEqualTo(argMax(expected));
+    }
+
+    // 합산 순서가 달라서 생기는 오차 한도: 항 크기 합 * 상대 오차
+    private static float tolerance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        double magnitude = 0;
+        for (int i = 0; i < length; i++) magnitude += Math.abs(a[aOffset + i] * b[bOffset + i]);
+        return (float) (magnitude * 1e-5 + 1e-6);
+    }
+
+    private static int argMax(float[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) best = i;
+        }
+        return best;
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] v = new float[length];
+        for (int i = 0; i < length; i++) v[i] = (float) random.nextGaussian();
+        return v;
+    }
+}
@@ -0,0 +1,67 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import com.c102.picky.global.exception.ApiException;
+import com.c102.picky.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    private static final LocalDateTime SLOT_AT = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000);
+
+    @ParameterizedTest
+    @EnumSource(FeedSort.class)
+    void encodeDecodeRoundTrip(FeedSort sort) {
+        FeedCursor cursor = new FeedCursor(sort, SLOT_AT, 3, 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");  // URL-safe, 패딩 없음
+        assertThat(FeedCursor.decode(encoded, sort)).isEqualTo(cursor);
+    }
+
+    @Test
+    void fromTakesKeyOfLastItem() {
+        NewsFeedItemDto item = new NewsFeedItemDto(7L, 70L, "t", "s", "u", "c", SLOT_AT, 2, SLOT_AT, "r");
+
+        assertThat(FeedCursor.from(FeedSort.PRIORITY, item))
+                .isEqualTo(new FeedCursor(FeedSort.PRIORITY, SLOT_AT, 2, 7L));
+    }
+
+    @Test
+    void rejectsCursorOfAnotherSort() {
+        String encoded = new FeedCursor(FeedSort.LATEST, SLOT_AT, 0, 1L).encode();
+
+        assertValidationFailed(() -> FeedCursor.decode(encoded, FeedSort.MIXED));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "TElNSVRFRA", "TUlYRUR8bm90LWEtZGF0ZXwxfDI"})
+    void rejectsMalformedCursor(String cursor) {
+        assertValidationFailed(() -> FeedCursor.decode(cursor, FeedSort.MIXED));
+    }
+
+    @Test
+    void rejectsNonNumericKey() {
+        String raw = "MIXED|" + SLOT_AT + "|high|1";
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertValidationFailed(() -> FeedCursor.decode(cursor, FeedSort.MIXED));
+    }
+
+    private static void assertValidationFailed(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(ErrorCode.VALIDATION_FAILED);
+    }
+}
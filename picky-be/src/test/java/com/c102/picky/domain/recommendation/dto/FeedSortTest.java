@@ -0,0 +1,84 @@
+package com.c102.picky.domain.recommendation.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedSortTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @ParameterizedTest
+    @EnumSource(FeedSort.class)
+    void comparatorFollowsSqlOrdering(FeedSort sort) {
+        List<NewsFeedItemDto> items = randomItems(new Random(sort.ordinal()), 500);
+
+        List<NewsFeedItemDto> byComparator = new ArrayList<>(items);
+        byComparator.sort(sort.comparator());
+        List<NewsFeedItemDto> bySort = new ArrayList<>(items);
+        bySort.sort(toComparator(sort.sort()));
+
+        assertThat(byComparator).containsExactlyElementsOf(bySort);
+    }
+
+    @Test
+    void sortsMatchDocumentedOrder() {
+        assertThat(FeedSort.LATEST.sort()).isEqualTo(Sort.by(Sort.Order.desc("slotAt"), Sort.Order.desc("id")));
+        assertThat(FeedSort.PRIORITY.sort())
+                .isEqualTo(Sort.by(Sort.Order.asc("priority"), Sort.Order.desc("slotAt"), Sort.Order.desc("id")));
+        assertThat(FeedSort.MIXED.sort())
+                .isEqualTo(Sort.by(Sort.Order.desc("slotAt"), Sort.Order.asc("priority"), Sort.Order.desc("id")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FeedSort.class)
+    void mergedHotAndArchivePagesKeepGlobalOrder(FeedSort sort) {
+        List<NewsFeedItemDto> items = randomItems(new Random(100 + sort.ordinal()), 200);
+        List<NewsFeedItemDto> hot = new ArrayList<>();
+        List<NewsFeedItemDto> archive = new ArrayList<>();
+        for (NewsFeedItemDto item : items) (item.slotId() % 3 == 0 ? archive : hot).add(item);
+        hot.sort(sort.comparator());
+        archive.sort(sort.comparator());
+
+        List<NewsFeedItemDto> merged = new ArrayList<>(hot);
+        merged.addAll(archive);
+        merged.sort(sort.comparator());
+
+        List<NewsFeedItemDto> expected = new ArrayList<>(items);
+        expected.sort(sort.comparator());
+        assertThat(merged).containsExactlyElementsOf(expected);
+    }
+
+    // slotAt / priority가 자주 겹치도록 좁은 범위에서 생성 (타이브레이크까지 검증)
+    private static List<NewsFeedItemDto> randomItems(Random random, int count) {
+        List<NewsFeedItemDto> items = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            LocalDateTime slotAt = BASE.plusMinutes(random.nextInt(20));
+            items.add(new NewsFeedItemDto(id, id, "t", "s", "u", "c", slotAt, random.nextInt(4), slotAt, "r"));
+        }
+        Collections.shuffle(items, random);
+        return items;
+    }
+
+    // Sort(엔티티 프로퍼티 기준, SQL ORDER BY로 그대로 나감) -> DTO 비교자
+    private static Comparator<NewsFeedItemDto> toComparator(Sort sort) {
+        Comparator<NewsFeedItemDto> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<NewsFeedItemDto> next = switch (order.getProperty()) {
+                case "slotAt" -> Comparator.comparing(NewsFeedItemDto::slotAt);
+                case "priority" -> Comparator.comparingInt(NewsFeedItemDto::priority);
+                case "id" -> Comparator.comparing(NewsFeedItemDto::slotId);
+                default -> throw new IllegalArgumentException(order.getProperty());
+            };
+            if (order.isDescending()) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+}
@@ -0,0 +1,112 @@
+package com.c102.picky.domain.recommendation.repository;
+
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findQuizSlotsForWindow 실행 계획 검증 (실제 MySQL, QUIZ 슬롯 1만 건)
+ * - idx_user_type_status_attempted를 (user_id, content_type, status) ref로 타고 정렬은 인덱스 순서 그대로
+ *   → Extra에 "Using filesort" / "Using temporary" 없음
+ * - 리포지토리 결과도 같은 순서 (attempted → priority → slot_at)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuizSlotPageQueryPlanTest {
+
+    private static final int USERS = 20;
+    private static final int SLOTS_PER_USER = 500;
+    private static final long USER_ID = 7L;
+    private static final int PAGE_SIZE = 20;
+
+    // findQuizSlotsForWindow가 만드는 SQL과 같은 조건 / 정렬 / 페이지
+    private static final String PAGE_SQL = """
+            SELECT *
+              FROM user_recommendation_slots s
+             WHERE s.user_id = ?
+               AND s.content_type = 'QUIZ'
+               AND s.status = 'SCHEDULED'
+               AND s.quiz_id IS NOT NULL
+             ORDER BY s.attempted, s.priority, s.slot_at
+             LIMIT ?
+            """;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    UserRecommendationSlotRepository slotRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        slotRepository.deleteAllInBatch();
+
+        // 유저 20명 x 500건, 상태 / 시도 여부 / 우선순위를 섞어서
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        Timestamp now = Timestamp.valueOf(base);
+        List<Object[]> rows = new ArrayList<>(USERS * SLOTS_PER_USER);
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int i = 0; i < SLOTS_PER_USER; i++) {
+                rows.add(new Object[]{
+                        userId, (long) i + 1, Timestamp.valueOf(base.minusMinutes(i)),
+                        i % 4 == 0 ? "DELIVERED" : "SCHEDULED", i % 5, i % 3 == 0, now, now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_recommendation_slots
+                    (user_id, content_type, quiz_id, slot_at, status, priority, attempted, created_at, updated_at)
+                VALUES (?, 'QUIZ', ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE TABLE user_recommendation_slots");
+    }
+
+    @Test
+    void pageQueryReadsAttemptedIndexInOrder() {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + PAGE_SQL, USER_ID, PAGE_SIZE);
+
+        assertThat(plan).hasSize(1);
+        Map<String, Object> row = plan.get(0);
+        String extra = String.valueOf(row.get("Extra"));
+        assertThat(row.get("key")).as("plan %s", row).isEqualTo("idx_user_type_status_attempted");
+        assertThat(extra).as("plan %s", row).doesNotContain("Using filesort", "Using temporary");
+    }
+
+    @Test
+    void repositoryReturnsTheIndexOrder() {
+        List<UserRecommendationSlot> page = slotRepository.findQuizSlotsForWindow(USER_ID, PageRequest.of(0, PAGE_SIZE)).getContent();
+
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page).allMatch(slot -> slot.getUserId() == USER_ID);
+        assertThat(page).isSortedAccordingTo(Comparator
+                .comparing(UserRecommendationSlot::isAttempted)
+                .thenComparingInt(UserRecommendationSlot::getPriority)
+                .thenComparing(UserRecommendationSlot::getSlotAt));
+    }
+}
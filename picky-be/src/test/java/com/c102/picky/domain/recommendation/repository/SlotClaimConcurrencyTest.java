@@ -0,0 +1,135 @@
+package com.c102.picky.domain.recommendation.repository;
+
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * claimForDeliverySkipLocked 동시성 검증 (실제 MySQL)
+ * - 50개 폴러가 같은 유저의 슬롯을 동시에 선점해도 한 슬롯은 한 번만 배달된다
+ * - 잠긴 행을 기다리지 않으므로 선점 트랜잭션 p99가 낮게 유지된다 (벽시계 기준이라 perf 태그, ./gradlew perfTest)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlotClaimConcurrencyTest {
+
+    private static final int POLLERS = 50;
+    private static final int SLOTS = 500;
+    private static final long USER_ID = 1L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    UserRecommendationSlotRepository slotRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clear() {
+        slotRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentPollersNeverDeliverTheSameSlotTwice() throws Exception {
+        ClaimRun run = claimConcurrently();
+
+        // 중복 배달 없음 + 전부 배달
+        assertThat(new HashSet<>(run.delivered())).hasSize(run.delivered().size());
+        assertThat(run.delivered()).hasSize(SLOTS);
+        assertThat(slotRepository.findAll()).allMatch(slot -> slot.getStatus() == SlotStatus.DELIVERED);
+    }
+
+    @Test
+    @Tag("perf")
+    void claimLatencyStaysLowUnderContention() throws Exception {
+        ClaimRun run = claimConcurrently();
+
+        // 선점 트랜잭션 p99 (잠금 대기가 없으므로 작은 상수 안에)
+        long[] sorted = run.latenciesNanos().stream().mapToLong(Long::longValue).sorted().toArray();
+        long p99Millis = TimeUnit.NANOSECONDS.toMillis(sorted[(int) Math.ceil(sorted.length * 0.99) - 1]);
+        assertThat(p99Millis)
+                .as("claim p99=%dms over %d transactions, %d pollers", p99Millis, sorted.length, POLLERS)
+                .isLessThan(500);
+    }
+
+    private ClaimRun claimConcurrently() throws Exception {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<UserRecommendationSlot> slots = new ArrayList<>(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(UserRecommendationSlot.builder()
+                    .userId(USER_ID)
+                    .contentType(ContentType.NEWS)
+                    .newsId((long) i + 1)
+                    .slotAt(now.minusSeconds(i))
+                    .priority(i % 5)
+                    .build());
+        }
+        slotRepository.saveAll(slots);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime start = now.minusHours(1);
+        LocalDateTime end = now.plusHours(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(POLLERS);
+        CountDownLatch ready = new CountDownLatch(POLLERS);
+        CountDownLatch go = new CountDownLatch(1);
+        Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+        Queue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> pollers = new ArrayList<>(POLLERS);
+        for (int p = 0; p < POLLERS; p++) {
+            pollers.add(pool.submit(() -> {
+                ready.countDown();
+                go.await();
+                while (true) {
+                    long begin = System.nanoTime();
+                    Long slotId = tx.execute(status -> {
+                        List<UserRecommendationSlot> claimed =
+                                slotRepository.claimForDeliverySkipLocked(USER_ID, ContentType.NEWS.name(), start, end, 1);
+                        if (claimed.isEmpty()) return null;
+                        UserRecommendationSlot slot = claimed.get(0);
+                        slot.setStatus(SlotStatus.DELIVERED);
+                        return slot.getId();
+                    });
+                    latenciesNanos.add(System.nanoTime() - begin);
+                    if (slotId == null) return null;
+                    delivered.add(slotId);
+                }
+            }));
+        }
+        ready.await();
+        go.countDown();
+        for (Future<?> poller : pollers) poller.get(2, TimeUnit.MINUTES);
+        pool.shutdown();
+
+        return new ClaimRun(List.copyOf(delivered), List.copyOf(latenciesNanos));
+    }
+
+    private record ClaimRun(List<Long> delivered, List<Long> latenciesNanos) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.c102.picky.domain.recommendation.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 1;
+
+    @Test
+    void firesOnlyOnceItsTickIsReached() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 0);
+        wheel.schedule("a", 10, "a");
+
+        assertThat(wheel.advance(9)).isEmpty();
+        assertThat(wheel.advance(10)).containsExactly("a");
+        assertThat(wheel.advance(20)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDueEntryFiresOnNextAdvance() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 1_000);
+        wheel.schedule("late", 500, "late");
+
+        assertThat(wheel.advance(1_000)).containsExactly("late");
+    }
+
+    @Test
+    void cascadesFromEveryLevelAtTheExactTick() {
+        HierarchicalTimingWheel<Long, Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, 0);
+        // 레벨 0 / 1 / 2 / 3 경계 바로 앞뒤
+        long[] dues = {63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145, 1_000_000};
+        for (long due : dues) wheel.schedule(due, due, due);
+
+        for (long due : dues) {
+            assertThat(wheel.advance(due - 1)).as("before %d", due).doesNotContain(due);
+            assertThat(wheel.advance(due)).as("at %d", due).contains(due);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void overflowEntriesAreReplacedAfterFullRotation() {
+        long range = 1L << 24;  // 64^4 틱
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 5);
+        wheel.schedule("far", 5 + range + 100, "far");
+
+        assertThat(wheel.advance(5 + range + 99)).isEmpty();
+        assertThat(wheel.advance(5 + range + 100)).containsExactly("far");
+    }
+
+    @Test
+    void advanceReturnsValuesInDueOrder() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 0);
+        wheel.schedule("c", 5_000, "c");
+        wheel.schedule("a", 70, "a");
+        wheel.schedule("b", 300, "b");
+
+        assertThat(wheel.advance(10_000)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void cancelAndRescheduleReplaceTheEntry() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 0);
+        wheel.schedule("x", 100, "first");
+        wheel.schedule("x", 200, "second");
+        wheel.schedule("y", 150, "y");
+
+        assertThat(wheel.cancel("y")).isTrue();
+        assertThat(wheel.cancel("y")).isFalse();
+        assertThat(wheel.advance(150)).isEmpty();
+        assertThat(wheel.advance(200)).containsExactly("second");
+    }
+
+    @Test
+    void matchesNaiveSchedulerUnderRandomSchedule() {
+        Random random = new Random(42);
+        HierarchicalTimingWheel<Integer, Integer> wheel = new HierarchicalTimingWheel<>(TICK_MS, 0);
+        Map<Integer, Long> dueAt = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long due = 1 + random.nextInt(400_000);
+            dueAt.put(i, due);
+            wheel.schedule(i, due, i);
+        }
+
+        long now = 0;
+        Set<Integer> fired = new HashSet<>();
+        while (now <= 400_000) {
+            long next = now + 1 + random.nextInt(3_000);
+            long previous = now;
+            for (int id : wheel.advance(next)) {
+                long due = dueAt.get(id);
+                assertThat(due).as("id %d", id).isLessThanOrEqualTo(next);
+                assertThat(due).as("id %d fired late", id).isGreaterThan(previous);
+                assertThat(fired.add(id)).isTrue();
+            }
+            now = next;
+        }
+        assertThat(fired).hasSize(dueAt.size());
+        assertThat(wheel.size()).isZero();
+    }
+}
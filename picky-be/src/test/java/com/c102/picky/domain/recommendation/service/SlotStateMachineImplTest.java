@@ -0,0 +1,158 @@
+package com.c102.picky.domain.recommendation.service;
+
+import com.c102.picky.domain.recommendation.entity.UserRecommendationSlot;
+import com.c102.picky.domain.recommendation.model.ContentType;
+import com.c102.picky.domain.recommendation.model.SlotStatus;
+import com.c102.picky.domain.recommendation.model.SlotTransition;
+import com.c102.picky.domain.recommendation.repository.UserRecommendationSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 상태 전이 조건부 UPDATE 검증 (실제 MySQL)
+ * - applyAll은 조건이 맞는 슬롯만 반영하고 그 id만 돌려준다
+ * - 남의 슬롯 / 허용되지 않은 출발 상태는 0행 (DB 상태 그대로)
+ * - SCHEDULED에서의 OPEN/DISMISS는 대기열 모드에서만 허용
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlotStateMachineImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    UserRecommendationSlotRepository slotRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime base = LocalDateTime.now().withNano(0);
+    private int seeded;
+
+    @BeforeEach
+    void clear() {
+        slotRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void applyAllReturnsOnlyAppliedSlots() {
+        SlotStateMachine stateMachine = new SlotStateMachineImpl(jdbcTemplate, false);
+        Long scheduled1 = save(USER_ID, SlotStatus.SCHEDULED);
+        Long scheduled2 = save(USER_ID, SlotStatus.SCHEDULED);
+        Long delivered = save(USER_ID, SlotStatus.DELIVERED);
+        Long foreign = save(OTHER_USER_ID, SlotStatus.SCHEDULED);
+
+        // 마지막 대상은 없는 슬롯
+        var applied = stateMachine.applyAll(SlotTransition.DELIVER, List.of(
+                new SlotStateMachine.Target(USER_ID, scheduled1),
+                new SlotStateMachine.Target(USER_ID, scheduled2),
+                new SlotStateMachine.Target(USER_ID, delivered),
+                new SlotStateMachine.Target(USER_ID, foreign),
+                new SlotStateMachine.Target(USER_ID, Long.MAX_VALUE)));
+
+        assertThat(applied).containsExactlyInAnyOrder(scheduled1, scheduled2);
+        assertThat(statusOf(scheduled1)).isEqualTo(SlotStatus.DELIVERED);
+        assertThat(statusOf(scheduled2)).isEqualTo(SlotStatus.DELIVERED);
+        assertThat(statusOf(delivered)).isEqualTo(SlotStatus.DELIVERED);
+        assertThat(statusOf(foreign)).isEqualTo(SlotStatus.SCHEDULED);
+    }
+
+    @Test
+    void applyRejectsForeignSlot() {
+        SlotStateMachine stateMachine = new SlotStateMachineImpl(jdbcTemplate, false);
+        Long slotId = save(OTHER_USER_ID, SlotStatus.DELIVERED);
+
+        assertThat(stateMachine.apply(USER_ID, slotId, SlotTransition.OPEN)).isFalse();
+        assertThat(statusOf(slotId)).isEqualTo(SlotStatus.DELIVERED);
+
+        assertThat(stateMachine.apply(OTHER_USER_ID, slotId, SlotTransition.OPEN)).isTrue();
+        assertThat(statusOf(slotId)).isEqualTo(SlotStatus.SEEN);
+    }
+
+    @Test
+    void applyRejectsDisallowedStartingStatus() {
+        SlotStateMachine stateMachine = new SlotStateMachineImpl(jdbcTemplate, false);
+        Long seen = save(USER_ID, SlotStatus.SEEN);
+        Long scheduled = save(USER_ID, SlotStatus.SCHEDULED);
+
+        // 끝난 슬롯은 되돌리지 않는다
+        assertThat(stateMachine.apply(USER_ID, seen, SlotTransition.DELIVER)).isFalse();
+        assertThat(stateMachine.apply(USER_ID, seen, SlotTransition.DISMISS)).isFalse();
+        assertThat(stateMachine.apply(USER_ID, seen, SlotTransition.RELEASE)).isFalse();
+        assertThat(statusOf(seen)).isEqualTo(SlotStatus.SEEN);
+
+        // 대기열을 안 쓰면 배달 전 슬롯의 ack는 거절
+        assertThat(stateMachine.apply(USER_ID, scheduled, SlotTransition.OPEN)).isFalse();
+        assertThat(stateMachine.apply(USER_ID, scheduled, SlotTransition.DISMISS)).isFalse();
+        assertThat(statusOf(scheduled)).isEqualTo(SlotStatus.SCHEDULED);
+    }
+
+    @Test
+    void readyQueueModeAcceptsAckBeforeWriteBack() {
+        SlotStateMachine stateMachine = new SlotStateMachineImpl(jdbcTemplate, true);
+        Long opened = save(USER_ID, SlotStatus.SCHEDULED);
+        Long dismissed = save(USER_ID, SlotStatus.SCHEDULED);
+        Long delivered = save(USER_ID, SlotStatus.DELIVERED);
+
+        var applied = stateMachine.applyAll(SlotTransition.OPEN, List.of(
+                new SlotStateMachine.Target(USER_ID, opened),
+                new SlotStateMachine.Target(USER_ID, delivered)));
+        assertThat(applied).containsExactlyInAnyOrder(opened, delivered);
+        assertThat(stateMachine.apply(USER_ID, dismissed, SlotTransition.DISMISS)).isTrue();
+
+        assertThat(statusOf(opened)).isEqualTo(SlotStatus.SEEN);
+        assertThat(statusOf(delivered)).isEqualTo(SlotStatus.SEEN);
+        assertThat(statusOf(dismissed)).isEqualTo(SlotStatus.DISMISSED);
+
+        // 이미 끝난 슬롯에 늦게 온 DELIVER write-back은 0행
+        assertThat(stateMachine.apply(USER_ID, opened, SlotTransition.DELIVER)).isFalse();
+        assertThat(statusOf(opened)).isEqualTo(SlotStatus.SEEN);
+    }
+
+    @Test
+    void releaseReturnsDeliveredSlotToScheduled() {
+        SlotStateMachine stateMachine = new SlotStateMachineImpl(jdbcTemplate, false);
+        Long slotId = save(USER_ID, SlotStatus.DELIVERED);
+
+        assertThat(stateMachine.apply(USER_ID, slotId, SlotTransition.RELEASE)).isTrue();
+        assertThat(statusOf(slotId)).isEqualTo(SlotStatus.SCHEDULED);
+        assertThat(stateMachine.apply(USER_ID, slotId, SlotTransition.RELEASE)).isFalse();
+    }
+
+    private Long save(Long userId, SlotStatus status) {
+        return slotRepository.save(UserRecommendationSlot.builder()
+                .userId(userId)
+                .contentType(ContentType.NEWS)
+                .newsId((long) ++seeded)
+                // (user_id, content_type, slot_at) 유니크라 슬롯마다 시각을 다르게
+                .slotAt(base.minusMinutes(seeded))
+                .status(status)
+                .build()).getId();
+    }
+
+    private SlotStatus statusOf(Long slotId) {
+        return slotRepository.findById(slotId).orElseThrow().getStatus();
+    }
+}